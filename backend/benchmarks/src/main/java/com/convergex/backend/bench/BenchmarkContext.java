@@ -0,0 +1,28 @@
+package com.convergex.backend.bench;
+
+import com.convergex.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Boots the real application against a fresh in-memory H2, for benchmarks that need repositories or services. */
+public final class BenchmarkContext {
+
+	private BenchmarkContext() {}
+
+	public static ConfigurableApplicationContext start(String... properties) {
+		List<String> all = new ArrayList<>(List.of(
+				"server.port=0", // the web context has to start for some beans; the port is never used
+				"spring.datasource.url=jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+				"spring.jpa.show-sql=false",
+				"logging.level.root=warn",
+				"spring.main.banner-mode=off",
+				// keep stray files out of the working directory; benchmarks that store images pass their own
+				"app.upload.dir=" + System.getProperty("java.io.tmpdir") + "/bench-uploads"));
+		all.addAll(List.of(properties));
+		// as command-line arguments, so they win over application.properties (builder properties are only defaults)
+		return new SpringApplicationBuilder(BackendApplication.class).run(all.stream().map(p -> "--" + p).toArray(String[]::new));
+	}
+}
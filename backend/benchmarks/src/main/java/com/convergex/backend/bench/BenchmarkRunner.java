@@ -0,0 +1,56 @@
+package com.convergex.backend.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of benchmarks.jar: JMH's own command line, except that results are always written
+ * as JSON to target/jmh-results/<commit>.json (unless -rf/-rff say otherwise), so runs on two
+ * commits can be diffed with {@link CompareResults}. The commit comes from -Dbench.commit, then
+ * $GIT_COMMIT, then git itself.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cli = new CommandLineOptions(args);
+		if (cli.shouldHelp() || cli.shouldList() || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+		if (!cli.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if (!cli.getResult().hasValue()) {
+			Path dir = Paths.get("target", "jmh-results");
+			Files.createDirectories(dir);
+			options.result(dir.resolve(commit() + ".json").toString());
+		}
+		new Runner(options.build()).run();
+	}
+
+	static String commit() {
+		String commit = System.getProperty("bench.commit", System.getenv("GIT_COMMIT"));
+		if (commit != null && !commit.isBlank()) return commit.trim();
+		try {
+			Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+			String out = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+			if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && !out.isEmpty()) {
+				return out;
+			}
+		} catch (IOException | InterruptedException ignored) {
+			// not a git checkout
+		}
+		return "local";
+	}
+}
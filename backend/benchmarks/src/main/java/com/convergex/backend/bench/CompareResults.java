@@ -0,0 +1,70 @@
+package com.convergex.backend.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Diffs two JMH JSON result files benchmark by benchmark and exits with status 1 if any score got
+ * worse by more than the threshold (default 10%), so a CI step can fail on regressions.
+ *
+ *   java -cp target/benchmarks.jar com.convergex.backend.bench.CompareResults base.json head.json [thresholdPercent]
+ *
+ * Throughput scores are better when higher, every other mode when lower. Benchmarks present in only
+ * one file are listed but never fail the comparison.
+ */
+public class CompareResults {
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.err.println("usage: CompareResults <base.json> <head.json> [thresholdPercent]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+		Map<String, JsonNode> base = load(new File(args[0]));
+		Map<String, JsonNode> head = load(new File(args[1]));
+
+		int regressions = 0;
+		System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "base", "head", "change");
+		for (Map.Entry<String, JsonNode> e : head.entrySet()) {
+			JsonNode now = e.getValue();
+			JsonNode before = base.get(e.getKey());
+			String unit = now.path("primaryMetric").path("scoreUnit").asText();
+			double headScore = now.path("primaryMetric").path("score").asDouble();
+			if (before == null) {
+				System.out.printf("%-90s %14s %14.3f %9s  %s%n", e.getKey(), "-", headScore, "new", unit);
+				continue;
+			}
+			double baseScore = before.path("primaryMetric").path("score").asDouble();
+			double change = baseScore == 0 ? 0 : (headScore - baseScore) / baseScore * 100;
+			boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+			double worse = higherIsBetter ? -change : change;
+			boolean regressed = worse > threshold;
+			if (regressed) regressions++;
+			System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", e.getKey(), baseScore, headScore, change, unit,
+					regressed ? "  REGRESSION" : "");
+		}
+		for (String name : base.keySet()) {
+			if (!head.containsKey(name)) System.out.printf("%-90s %14s %14s %9s%n", name, "", "-", "removed");
+		}
+		if (regressions > 0) {
+			System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+			System.exit(1);
+		}
+	}
+
+	/** Keyed by benchmark name plus its mode and @Param values, which together identify one result. */
+	private static Map<String, JsonNode> load(File file) throws Exception {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode result : new ObjectMapper().readTree(file)) {
+			StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+					.append(" [").append(result.path("mode").asText()).append(']');
+			result.path("params").fields().forEachRemaining(p -> key.append(' ').append(p.getKey()).append('=').append(p.getValue().asText()));
+			results.put(key.toString(), result);
+		}
+		return results;
+	}
+}
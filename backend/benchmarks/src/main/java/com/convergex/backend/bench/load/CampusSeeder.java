@@ -0,0 +1,313 @@
+package com.convergex.backend.bench.load;
+
+import com.convergex.backend.BackendApplication;
+import com.convergex.backend.model.*;
+import com.convergex.backend.repository.*;
+import com.convergex.backend.service.CatalogVersionService;
+import com.convergex.backend.service.EventScheduleService;
+import com.convergex.backend.service.RegistrationCountService;
+import com.convergex.backend.service.TimelineService;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import com.convergex.backend.service.search.EventSearchIndex;
+import com.convergex.backend.service.search.SuggestionIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fills a running application with a synthetic campus through the real repositories: users with
+ * roles, clubs with admins, events, follows, saves and registrations. Club and event popularity is
+ * Zipfian, so a few clubs get most followers and a few events most saves and registrations, and
+ * registrations past an event's capacity are waitlisted as they would be through the API.
+ *
+ * Everything is derived from {@link Sizes#seed}, so the same sizes produce the same rows (and ids,
+ * on a fresh database). Rows are written in chunks, one transaction each. Afterwards the in-memory
+ * indexes that normally load at startup are reloaded and the timelines rebuilt. The rebuild writes
+ * up to app.timeline.backfill-size rows per follow of a club below the fan-out limit, and usually
+ * takes far longer than the seeding itself; lower the backfill size for quick runs.
+ *
+ * Standalone, it seeds whatever database the Spring arguments point at and exits:
+ *
+ *   java -cp target/benchmarks.jar com.convergex.backend.bench.load.CampusSeeder users=50000 clubs=2000 events=100000 \
+ *       --spring.datasource.url=jdbc:h2:file:./campus
+ */
+public class CampusSeeder {
+
+	/** Every seeded user logs in with this password. */
+	public static final String PASSWORD = "campus-pass";
+
+	private static final int CHUNK = 1_000;
+	private static final int[] CAPACITIES = {30, 50, 100, 200, 500};
+
+	static final String[] TOPICS = {"Robotics", "Machine Learning", "Photography", "Music", "Drama", "Debate",
+			"Chess", "Football", "Cricket", "Entrepreneurship", "Blockchain", "Quiz", "Dance", "Coding", "Cloud",
+			"Astronomy", "Literature", "Film", "Design", "Electronics", "Cybersecurity", "Yoga", "Hackathon", "Art"};
+	private static final String[] FORMATS = {"Workshop", "Meetup", "Talk", "Contest", "Bootcamp", "Night",
+			"Showcase", "Tournament", "Seminar", "Jam"};
+	private static final String[] LEVELS = {"Intro to", "Advanced", "Weekend", "Annual", "Open", "Inter-college"};
+	private static final String[] DEPARTMENTS = {"CSE", "ECE", "EEE", "ME", "CE", "CHE", "Architecture"};
+	private static final String[] LOCATIONS = {"Main Auditorium", "Seminar Hall 1", "Seminar Hall 2", "CSE Lab 3",
+			"Open Air Theatre", "Library Hall", "Sports Complex", "Innovation Centre"};
+
+	/** Sizes and skew of the campus; parsed from key=value arguments. */
+	public static final class Sizes {
+		public int users = 50_000;
+		public int clubs = 2_000;
+		public int events = 100_000;
+		public int followsPerUser = 8;
+		public int savesPerUser = 10;
+		public int registrationsPerUser = 5;
+		/** Zipf exponent for club and event popularity; 0 is uniform. */
+		public double skew = 1.0;
+		public long seed = 42;
+
+		/** Applies users=, clubs=, events=, follows=, saves=, registrations=, skew= and seed=; other arguments are ignored. */
+		public static Sizes parse(String... args) {
+			Sizes sizes = new Sizes();
+			for (String arg : args) {
+				int eq = arg.indexOf('=');
+				if (arg.startsWith("-") || eq < 0) continue;
+				String value = arg.substring(eq + 1);
+				switch (arg.substring(0, eq)) {
+					case "users" -> sizes.users = Integer.parseInt(value);
+					case "clubs" -> sizes.clubs = Integer.parseInt(value);
+					case "events" -> sizes.events = Integer.parseInt(value);
+					case "follows" -> sizes.followsPerUser = Integer.parseInt(value);
+					case "saves" -> sizes.savesPerUser = Integer.parseInt(value);
+					case "registrations" -> sizes.registrationsPerUser = Integer.parseInt(value);
+					case "skew" -> sizes.skew = Double.parseDouble(value);
+					case "seed" -> sizes.seed = Long.parseLong(value);
+					default -> { }
+				}
+			}
+			if (sizes.clubs > sizes.users) throw new IllegalArgumentException("every club needs its own admin: clubs <= users");
+			return sizes;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("users=%d clubs=%d events=%d follows=%d saves=%d registrations=%d skew=%.2f seed=%d",
+					users, clubs, events, followsPerUser, savesPerUser, registrationsPerUser, skew, seed);
+		}
+	}
+
+	/** Ids of the seeded rows, plus the popularity order the load driver samples from. */
+	public record Campus(long[] userIds, long[] clubIds, long[] eventIds, int[] eventsByPopularity) {
+
+		public static String email(int userIndex) {
+			return "student" + userIndex + "@tkmce.ac.in";
+		}
+	}
+
+	private final ConfigurableApplicationContext context;
+	private final Sizes sizes;
+	private final TransactionTemplate transactionTemplate;
+	private final UserRepository userRepository;
+	private final ClubRepository clubRepository;
+	private final EventRepository eventRepository;
+
+	public CampusSeeder(ConfigurableApplicationContext context, Sizes sizes) {
+		this.context = context;
+		this.sizes = sizes;
+		this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		this.userRepository = context.getBean(UserRepository.class);
+		this.clubRepository = context.getBean(ClubRepository.class);
+		this.eventRepository = context.getBean(EventRepository.class);
+	}
+
+	public static void main(String[] args) {
+		Sizes sizes = Sizes.parse(args);
+		List<String> springArgs = new ArrayList<>(List.of("--server.port=0", // the security config needs the web context
+				"--spring.jpa.show-sql=false", "--logging.level.root=warn"));
+		Arrays.stream(args).filter(arg -> arg.startsWith("--")).forEach(springArgs::add);
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+				.run(springArgs.toArray(String[]::new));
+		try {
+			new CampusSeeder(context, sizes).seed();
+		} finally {
+			context.close();
+		}
+	}
+
+	public Campus seed() {
+		System.out.println("Seeding " + sizes);
+		SplittableRandom random = new SplittableRandom(sizes.seed);
+		long start = System.currentTimeMillis();
+
+		long[] userIds = seedUsers(random);
+		long[] clubIds = seedClubs(random, userIds);
+		int[] clubsByPopularity = permutation(sizes.clubs, random);
+		int[] eventsByPopularity = permutation(sizes.events, random);
+		Zipf clubZipf = new Zipf(sizes.clubs, sizes.skew);
+		Zipf eventZipf = new Zipf(sizes.events, sizes.skew);
+
+		int[] capacities = new int[sizes.events];
+		long[] eventIds = seedEvents(random, userIds, clubIds, clubsByPopularity, clubZipf, capacities);
+		seedFollows(random, userIds, clubIds, clubsByPopularity, clubZipf);
+		seedSaves(random, userIds, eventIds, eventsByPopularity, eventZipf);
+		seedRegistrations(random, userIds, eventIds, eventsByPopularity, eventZipf, capacities);
+		System.out.printf("Seeded rows in %d ms; reloading indexes and timelines...%n", System.currentTimeMillis() - start);
+
+		reloadDerivedState();
+		System.out.printf("Campus ready in %d ms.%n", System.currentTimeMillis() - start);
+		return new Campus(userIds, clubIds, eventIds, eventsByPopularity);
+	}
+
+	private long[] seedUsers(SplittableRandom random) {
+		RoleRepository roles = context.getBean(RoleRepository.class);
+		Role userRole = roles.findByName(ERole.ROLE_USER).orElseGet(() -> roles.save(new Role(ERole.ROLE_USER)));
+		Role adminRole = roles.findByName(ERole.ROLE_ADMIN).orElseGet(() -> roles.save(new Role(ERole.ROLE_ADMIN)));
+		Role superAdminRole = roles.findByName(ERole.ROLE_SUPER_ADMIN).orElseGet(() -> roles.save(new Role(ERole.ROLE_SUPER_ADMIN)));
+		String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD); // hashing 50k times would dominate
+
+		int adminStride = sizes.users / Math.max(1, sizes.clubs);
+		return saveInChunks(sizes.users, i -> {
+			User user = new User("Student " + i, Campus.email(i), passwordHash, null,
+					DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], String.valueOf(1 + random.nextInt(4)));
+			List<String> interests = new ArrayList<>();
+			random.ints(random.nextInt(4), 0, TOPICS.length).distinct().forEach(t -> interests.add(TOPICS[t]));
+			user.setInterests(interests);
+			Set<Role> userRoles = new HashSet<>();
+			userRoles.add(userRole);
+			if (i % adminStride == 0 && i / adminStride < sizes.clubs) userRoles.add(adminRole);
+			if (i == 0) userRoles.add(superAdminRole);
+			user.setRoles(userRoles);
+			return user;
+		}, userRepository, User::getId);
+	}
+
+	private long[] seedClubs(SplittableRandom random, long[] userIds) {
+		int adminStride = sizes.users / Math.max(1, sizes.clubs);
+		return saveInChunks(sizes.clubs, i -> {
+			Club club = new Club();
+			String topic = TOPICS[random.nextInt(TOPICS.length)];
+			club.setName(topic + " Club " + i);
+			club.setDescription("Students interested in " + topic.toLowerCase() + ".");
+			club.setAdmin(userRepository.getReferenceById(userIds[i * adminStride]));
+			return club;
+		}, clubRepository, Club::getId);
+	}
+
+	private long[] seedEvents(SplittableRandom random, long[] userIds, long[] clubIds, int[] clubsByPopularity,
+	                          Zipf clubZipf, int[] capacities) {
+		int adminStride = sizes.users / Math.max(1, sizes.clubs);
+		EventScheduleService schedule = context.getBean(EventScheduleService.class);
+		return saveInChunks(sizes.events, i -> {
+			int club = clubsByPopularity[clubZipf.next(random)]; // popular clubs post more
+			String topic = TOPICS[random.nextInt(TOPICS.length)];
+			Event event = new Event();
+			event.setTitle(LEVELS[random.nextInt(LEVELS.length)] + " " + topic + " " + FORMATS[random.nextInt(FORMATS.length)]);
+			event.setDescription("A " + topic.toLowerCase() + " event for all years. Session " + i + ".");
+			event.setEventDate(String.format("2026-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28)));
+			event.setEventTime(String.format("%02d:%02d", 9 + random.nextInt(10), random.nextBoolean() ? 0 : 30));
+			schedule.applySchedule(event);
+			event.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+			capacities[i] = random.nextInt(4) == 0 ? 0 : CAPACITIES[random.nextInt(CAPACITIES.length)];
+			event.setCapacity(capacities[i] == 0 ? null : capacities[i]);
+			event.setClub(clubRepository.getReferenceById(clubIds[club]));
+			event.setPostedBy(userRepository.getReferenceById(userIds[club * adminStride]));
+			return event;
+		}, eventRepository, Event::getId);
+	}
+
+	private void seedFollows(SplittableRandom random, long[] userIds, long[] clubIds, int[] clubsByPopularity, Zipf clubZipf) {
+		int perUser = Math.min(sizes.followsPerUser, sizes.clubs);
+		List<long[]> pairs = pairs(random, userIds, clubIds, clubsByPopularity, clubZipf, perUser);
+		saveInChunks(pairs.size(), i -> {
+			UserFollowsClub follow = new UserFollowsClub();
+			follow.setUser(userRepository.getReferenceById(pairs.get(i)[0]));
+			follow.setClub(clubRepository.getReferenceById(pairs.get(i)[1]));
+			return follow;
+		}, context.getBean(UserFollowsClubRepository.class), UserFollowsClub::getId);
+	}
+
+	private void seedSaves(SplittableRandom random, long[] userIds, long[] eventIds, int[] eventsByPopularity, Zipf eventZipf) {
+		int perUser = Math.min(sizes.savesPerUser, sizes.events);
+		List<long[]> pairs = pairs(random, userIds, eventIds, eventsByPopularity, eventZipf, perUser);
+		saveInChunks(pairs.size(), i -> {
+			SavedEvent saved = new SavedEvent();
+			saved.setUser(userRepository.getReferenceById(pairs.get(i)[0]));
+			saved.setEvent(eventRepository.getReferenceById(pairs.get(i)[1]));
+			return saved;
+		}, context.getBean(SavedEventRepository.class), SavedEvent::getId);
+	}
+
+	private void seedRegistrations(SplittableRandom random, long[] userIds, long[] eventIds, int[] eventsByPopularity,
+	                               Zipf eventZipf, int[] capacities) {
+		int perUser = Math.min(sizes.registrationsPerUser, sizes.events);
+		List<long[]> pairs = pairs(random, userIds, eventIds, eventsByPopularity, eventZipf, perUser);
+		Map<Long, Integer> eventIndex = new HashMap<>(eventIds.length * 2);
+		for (int i = 0; i < eventIds.length; i++) eventIndex.put(eventIds[i], i);
+		int[] confirmed = new int[eventIds.length];
+		saveInChunks(pairs.size(), i -> {
+			int event = eventIndex.get(pairs.get(i)[1]);
+			EventRegistration registration = new EventRegistration();
+			registration.setUser(userRepository.getReferenceById(pairs.get(i)[0]));
+			registration.setEvent(eventRepository.getReferenceById(pairs.get(i)[1]));
+			boolean full = capacities[event] > 0 && confirmed[event] >= capacities[event];
+			registration.setStatus(full ? RegistrationStatus.WAITLISTED : RegistrationStatus.CONFIRMED);
+			if (!full) confirmed[event]++;
+			return registration;
+		}, context.getBean(EventRegistrationRepository.class), EventRegistration::getId);
+	}
+
+	/** The startup loaders ran against an empty database; run them again over the seeded rows. */
+	private void reloadDerivedState() {
+		context.getBean(EventCatalogCache.class).invalidateAll();
+		context.getBean(RegistrationCountService.class).loadAll();
+		context.getBean(EventSearchIndex.class).loadAll();
+		context.getBean(SuggestionIndex.class).loadAll();
+		context.getBean(TimelineService.class).rebuildAll();
+		context.getBean(CatalogVersionService.class).bumpGlobal();
+	}
+
+	/** Distinct (user, target) pairs: perUser Zipf-distributed targets for each user, in user order. */
+	private static List<long[]> pairs(SplittableRandom random, long[] userIds, long[] targetIds, int[] byPopularity,
+	                                  Zipf zipf, int perUser) {
+		List<long[]> pairs = new ArrayList<>(userIds.length * perUser);
+		Set<Integer> chosen = new LinkedHashSet<>();
+		for (long userId : userIds) {
+			chosen.clear();
+			for (int attempts = 0; chosen.size() < perUser && attempts < perUser * 20; attempts++) {
+				chosen.add(byPopularity[zipf.next(random)]);
+			}
+			for (int target : chosen) pairs.add(new long[]{userId, targetIds[target]});
+		}
+		return pairs;
+	}
+
+	/** A seeded shuffle: position k holds the index of the k-th most popular row. */
+	private static int[] permutation(int n, SplittableRandom random) {
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) order[i] = i;
+		for (int i = n - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = order[i];
+			order[i] = order[j];
+			order[j] = swap;
+		}
+		return order;
+	}
+
+	/** Builds and saves {@code count} rows, CHUNK per transaction, and returns their ids in build order. */
+	private <T> long[] saveInChunks(int count, IntFunction<T> build, JpaRepository<T, Long> repository, ToLongFunction<T> id) {
+		long[] ids = new long[count];
+		for (int from = 0; from < count; from += CHUNK) {
+			int start = from, end = Math.min(count, from + CHUNK);
+			transactionTemplate.executeWithoutResult(status -> {
+				List<T> rows = new ArrayList<>(end - start);
+				for (int i = start; i < end; i++) rows.add(build.apply(i));
+				List<T> saved = repository.saveAll(rows);
+				for (int i = 0; i < saved.size(); i++) ids[start + i] = id.applyAsLong(saved.get(i));
+			});
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,361 @@
+package com.convergex.backend.bench.load;
+
+import com.convergex.backend.bench.BenchmarkContext;
+import com.convergex.backend.bench.load.CampusSeeder.Campus;
+import com.convergex.backend.bench.load.CampusSeeder.Sizes;
+import com.convergex.backend.payload.KeysetPage;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * End-to-end load test: boots the application in this JVM on a random port, seeds a campus with
+ * {@link CampusSeeder}, then runs closed-loop clients over real HTTP, each signed in as a different
+ * student, replaying a weighted mix of login, browse, detail, feed, search, save, register and
+ * picture upload. Events are picked with the same Zipf skew as the seeded data, so hot events stay
+ * hot. Prints throughput and latency percentiles per endpoint, and one "RESULT key=value ..." line
+ * per endpoint for scripts.
+ *
+ *   java -cp target/benchmarks.jar com.convergex.backend.bench.load.LoadDriver users=5000 clubs=200 events=10000 \
+ *       clients=32 duration=60 warmup=10
+ *
+ * Arguments: the seeder's sizes (see {@link Sizes#parse}), clients=, duration= and warmup= (seconds),
+ * think-ms= (pause between a client's requests), mix=browse:30,feed:20,... to override the weights,
+ * and --name=value Spring properties for the application (for example --spring.threads.virtual.enabled=true).
+ * Saves and registrations toggle, so a client that saved an event unsaves it the next time it draws
+ * it; a 4xx answer is counted, not treated as a failure.
+ */
+public class LoadDriver {
+
+	enum Action {
+		LOGIN("POST /api/auth/login", 3),
+		BROWSE("GET /api/events", 30),
+		DETAIL("GET /api/events/{id}", 15),
+		FEED("GET /api/events/feed", 18),
+		SEARCH("GET /api/events/search", 12),
+		SAVE("POST|DELETE save", 10),
+		REGISTER("POST|DELETE register", 9),
+		UPLOAD("POST /api/users/me/picture", 3);
+
+		final String endpoint;
+		final int defaultWeight;
+
+		Action(String endpoint, int defaultWeight) {
+			this.endpoint = endpoint;
+			this.defaultWeight = defaultWeight;
+		}
+	}
+
+	private final Sizes sizes;
+	private int clients = 32;
+	private int durationSeconds = 60;
+	private int warmupSeconds = 10;
+	private long thinkMs = 0;
+	private final int[] weights = new int[Action.values().length];
+	private final List<String> springProperties = new ArrayList<>();
+
+	private String base;
+	private Campus campus;
+	private Zipf eventZipf;
+	private HttpClient http;
+
+	LoadDriver(String... args) {
+		sizes = Sizes.parse(args);
+		for (Action action : Action.values()) weights[action.ordinal()] = action.defaultWeight;
+		for (String arg : args) {
+			if (arg.startsWith("--")) {
+				springProperties.add(arg.substring(2));
+				continue;
+			}
+			int eq = arg.indexOf('=');
+			if (eq < 0) continue;
+			String value = arg.substring(eq + 1);
+			switch (arg.substring(0, eq)) {
+				case "clients" -> clients = Integer.parseInt(value);
+				case "duration" -> durationSeconds = Integer.parseInt(value);
+				case "warmup" -> warmupSeconds = Integer.parseInt(value);
+				case "think-ms" -> thinkMs = Long.parseLong(value);
+				case "mix" -> {
+					Arrays.fill(weights, 0);
+					for (String part : value.split(",")) {
+						String[] kv = part.split(":");
+						weights[Action.valueOf(kv[0].trim().toUpperCase()).ordinal()] = Integer.parseInt(kv[1].trim());
+					}
+				}
+				default -> { }
+			}
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new LoadDriver(args).run();
+	}
+
+	void run() throws Exception {
+		ConfigurableApplicationContext context = BenchmarkContext.start(springProperties.toArray(String[]::new));
+		try {
+			base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			campus = new CampusSeeder(context, sizes).seed();
+			eventZipf = new Zipf(campus.eventIds().length, sizes.skew);
+			http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+			String[] tokens = signIn(context);
+			System.out.printf("Running %d clients for %ds (+%ds warmup), think %d ms, mix %s%n",
+					clients, durationSeconds, warmupSeconds, thinkMs, describeMix());
+			report(drive(tokens));
+		} finally {
+			context.close();
+		}
+	}
+
+	/** One bearer token per client, each for a different student; issued directly so setup does not pay for BCrypt. */
+	private String[] signIn(ConfigurableApplicationContext context) {
+		UserRepository users = context.getBean(UserRepository.class);
+		JwtUtils jwtUtils = context.getBean(JwtUtils.class);
+		String[] tokens = new String[clients];
+		for (int c = 0; c < clients; c++) {
+			int userIndex = (int) ((c * 7919L) % campus.userIds().length);
+			tokens[c] = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(users.findByEmail(Campus.email(userIndex)).get()));
+		}
+		return tokens;
+	}
+
+	private Recorder[][] drive(String[] tokens) throws InterruptedException {
+		int totalWeight = Arrays.stream(weights).sum();
+		if (totalWeight == 0) throw new IllegalArgumentException("mix has no weight");
+		long warmupEnd = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+		long end = warmupEnd + durationSeconds * 1_000_000_000L;
+		Recorder[][] recorders = new Recorder[clients][];
+		CountDownLatch done = new CountDownLatch(clients);
+
+		for (int c = 0; c < clients; c++) {
+			Client client = new Client(tokens[c], new SplittableRandom(sizes.seed * 31 + c));
+			recorders[c] = client.recorders;
+			Thread thread = new Thread(() -> {
+				try {
+					client.loop(totalWeight, warmupEnd, end);
+				} finally {
+					done.countDown();
+				}
+			}, "load-client-" + c);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		done.await();
+		return recorders;
+	}
+
+	private final class Client {
+		final String token;
+		final SplittableRandom random;
+		final Recorder[] recorders = new Recorder[Action.values().length];
+		final Set<Long> saved = new HashSet<>();
+		final Set<Long> registered = new HashSet<>();
+		String nextCursor;
+
+		Client(String token, SplittableRandom random) {
+			this.token = token;
+			this.random = random;
+			for (Action action : Action.values()) recorders[action.ordinal()] = new Recorder();
+		}
+
+		void loop(int totalWeight, long warmupEnd, long end) {
+			while (true) {
+				Action action = pick(random.nextInt(totalWeight));
+				long start = System.nanoTime();
+				if (start >= end) return;
+				int status;
+				try {
+					status = execute(action);
+				} catch (Exception e) {
+					status = -1;
+				}
+				long elapsed = System.nanoTime() - start;
+				if (start >= warmupEnd) recorders[action.ordinal()].record(elapsed, status);
+				if (thinkMs > 0) {
+					try {
+						Thread.sleep(thinkMs);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		}
+
+		private Action pick(int roll) {
+			for (Action action : Action.values()) {
+				roll -= weights[action.ordinal()];
+				if (roll < 0) return action;
+			}
+			throw new IllegalStateException();
+		}
+
+		private int execute(Action action) throws Exception {
+			switch (action) {
+				case LOGIN -> {
+					String email = Campus.email(random.nextInt(campus.userIds().length));
+					String body = "{\"email\":\"" + email + "\",\"password\":\"" + CampusSeeder.PASSWORD + "\"}";
+					return send(request("/api/auth/login").header("Content-Type", "application/json")
+							.POST(HttpRequest.BodyPublishers.ofString(body)));
+				}
+				case BROWSE -> {
+					// a third of the time keep scrolling from the previous page
+					String cursor = nextCursor != null && random.nextInt(3) == 0 ? "&cursor=" + nextCursor : "";
+					HttpResponse<Void> response = http.send(authorized("/api/events?limit=20" + cursor).GET().build(),
+							HttpResponse.BodyHandlers.discarding());
+					nextCursor = response.headers().firstValue(KeysetPage.NEXT_CURSOR_HEADER).orElse(null);
+					return response.statusCode();
+				}
+				case DETAIL -> {
+					return send(authorized("/api/events/" + hotEvent()).GET());
+				}
+				case FEED -> {
+					return send(authorized("/api/events/feed?limit=20").GET());
+				}
+				case SEARCH -> {
+					String term = CampusSeeder.TOPICS[random.nextInt(CampusSeeder.TOPICS.length)].split(" ")[0].toLowerCase();
+					return send(authorized("/api/events/search?q=" + term).GET());
+				}
+				case SAVE -> {
+					long eventId = hotEvent();
+					boolean unsave = saved.contains(eventId);
+					int status = send(unsave
+							? authorized("/api/events/" + eventId + "/unsave").DELETE()
+							: authorized("/api/events/" + eventId + "/save").POST(HttpRequest.BodyPublishers.noBody()));
+					if (unsave) saved.remove(eventId);
+					else saved.add(eventId); // a 400 means it was saved by the seeder; unsave it next time
+					return status;
+				}
+				case REGISTER -> {
+					long eventId = hotEvent();
+					boolean cancel = registered.contains(eventId);
+					HttpRequest.Builder request = authorized("/api/events/" + eventId + "/register");
+					int status = send(cancel ? request.DELETE() : request.POST(HttpRequest.BodyPublishers.noBody()));
+					if (cancel) registered.remove(eventId);
+					else registered.add(eventId);
+					return status;
+				}
+				case UPLOAD -> {
+					String boundary = "----load" + random.nextLong();
+					return send(authorized("/api/users/me/picture")
+							.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+							.POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, png(random.nextInt())))));
+				}
+			}
+			throw new IllegalStateException();
+		}
+
+		private long hotEvent() {
+			return campus.eventIds()[campus.eventsByPopularity()[eventZipf.next(random)]];
+		}
+
+		private HttpRequest.Builder authorized(String path) {
+			return request(path).header("Authorization", token);
+		}
+	}
+
+	/** Latencies of one action on one client; merged per action for the report. */
+	private static final class Recorder {
+		long[] nanos = new long[1 << 10];
+		int count;
+		long clientErrors; // 4xx
+		long failures;     // 5xx or no response
+
+		void record(long elapsed, int status) {
+			if (count == nanos.length) nanos = Arrays.copyOf(nanos, count * 2);
+			nanos[count++] = elapsed;
+			if (status < 0 || status >= 500) failures++;
+			else if (status >= 400) clientErrors++;
+		}
+	}
+
+	private void report(Recorder[][] recorders) {
+		System.out.printf("%n%-28s %8s %9s %8s %8s %8s %8s %8s %7s %7s%n",
+				"endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "failed");
+		List<String> results = new ArrayList<>();
+		long grandTotal = 0;
+		for (Action action : Action.values()) {
+			int total = 0;
+			long clientErrors = 0, failures = 0;
+			for (Recorder[] client : recorders) {
+				Recorder recorder = client[action.ordinal()];
+				total += recorder.count;
+				clientErrors += recorder.clientErrors;
+				failures += recorder.failures;
+			}
+			if (total == 0) continue;
+			long[] all = new long[total];
+			int offset = 0;
+			for (Recorder[] client : recorders) {
+				Recorder recorder = client[action.ordinal()];
+				System.arraycopy(recorder.nanos, 0, all, offset, recorder.count);
+				offset += recorder.count;
+			}
+			Arrays.sort(all);
+			grandTotal += total;
+			double rps = total / (double) durationSeconds;
+			double p50 = percentile(all, 0.50), p90 = percentile(all, 0.90), p99 = percentile(all, 0.99);
+			double p999 = percentile(all, 0.999), max = all[all.length - 1] / 1e6;
+			System.out.printf("%-28s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d %7d%n",
+					action.endpoint, total, rps, p50, p90, p99, p999, max, clientErrors, failures);
+			results.add(String.format("RESULT action=%s requests=%d rps=%.1f p50_ms=%.3f p90_ms=%.3f p99_ms=%.3f p999_ms=%.3f max_ms=%.3f client_errors=%d failures=%d",
+					action.name().toLowerCase(), total, rps, p50, p90, p99, p999, max, clientErrors, failures));
+		}
+		System.out.printf("%-28s %8d %9.1f%n%n", "total", grandTotal, grandTotal / (double) durationSeconds);
+		results.forEach(System.out::println);
+	}
+
+	private String describeMix() {
+		StringJoiner mix = new StringJoiner(",");
+		for (Action action : Action.values()) {
+			if (weights[action.ordinal()] > 0) mix.add(action.name().toLowerCase() + ":" + weights[action.ordinal()]);
+		}
+		return mix.toString();
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(30));
+	}
+
+	private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		return http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(p * sorted.length) - 1))] / 1e6;
+	}
+
+	/** A small distinct PNG per upload, so content-addressed storage does not deduplicate the work away. */
+	private static byte[] png(int rgb) throws IOException {
+		BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < 64; y++) {
+			for (int x = 0; x < 64; x++) image.setRGB(x, y, rgb ^ (x * 31 + y));
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private static byte[] multipart(String boundary, byte[] file) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		body.write(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"p.png\"\r\n" +
+				"Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		body.write(file);
+		body.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+		return body.toByteArray();
+	}
+}
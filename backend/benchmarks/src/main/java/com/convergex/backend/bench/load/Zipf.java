@@ -0,0 +1,35 @@
+package com.convergex.backend.bench.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian ranks over [0, n): rank k is drawn with probability proportional to 1 / (k + 1)^exponent.
+ * Exponent 0 is uniform; around 1 gives the usual "a few clubs and events get most of the traffic".
+ * Sampling is a binary search over the precomputed cumulative weights, so it is deterministic for a
+ * given random source.
+ */
+public final class Zipf {
+
+	private final double[] cumulative;
+
+	public Zipf(int n, double exponent) {
+		if (n <= 0) throw new IllegalArgumentException("n must be positive");
+		cumulative = new double[n];
+		double total = 0;
+		for (int k = 0; k < n; k++) {
+			total += 1.0 / Math.pow(k + 1, exponent);
+			cumulative[k] = total;
+		}
+	}
+
+	public int size() {
+		return cumulative.length;
+	}
+
+	public int next(SplittableRandom random) {
+		double u = random.nextDouble() * cumulative[cumulative.length - 1];
+		int i = Arrays.binarySearch(cumulative, u);
+		return i >= 0 ? i : Math.min(-i - 1, cumulative.length - 1);
+	}
+}
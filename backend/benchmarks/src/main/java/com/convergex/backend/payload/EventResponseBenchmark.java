@@ -0,0 +1,63 @@
+package com.convergex.backend.payload;
+
+import com.convergex.backend.service.RegistrationCountService;
+import com.convergex.backend.service.ViewerState;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU side of an event list page: decorating cached snapshots into EventDetailsResponses for
+ * one viewer, and serializing the page with Jackson (configured like Spring Boot's mapper).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventResponseBenchmark {
+
+	@Param({"20", "200"})
+	public int pageSize;
+
+	private List<EventSnapshot> snapshots;
+	private ViewerState viewer;
+	private List<EventDetailsResponse> page;
+	private ObjectMapper objectMapper;
+
+	@Setup
+	public void setup() {
+		snapshots = new ArrayList<>();
+		for (long id = 1; id <= pageSize; id++) {
+			snapshots.add(new EventSnapshot(id, "Event " + id, "A description of event " + id + " that runs for a sentence or two.",
+					"2026-11-01", "18:00", Instant.parse("2026-11-01T12:30:00Z"), Instant.parse("2026-11-01T14:30:00Z"), "Main Auditorium", id % 10, "Club " + (id % 10), "/images/ab/cd/logo" + (id % 10) + ".png",
+					List.of("/images/ab/cd/" + id + "a.jpg", "/images/ab/cd/" + id + "b.jpg"), 7L, id % 3 == 0 ? null : 100));
+		}
+		viewer = new ViewerState(Set.of(1L, 5L, 9L), Set.of(2L, 3L), Set.of(4L), Set.of(1L, 2L), new RegistrationCountService());
+		page = viewer.decorateSnapshots(snapshots);
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	}
+
+	@Benchmark
+	public List<EventDetailsResponse> decorate() {
+		return viewer.decorateSnapshots(snapshots);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] decorateAndSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(viewer.decorateSnapshots(snapshots));
+	}
+}
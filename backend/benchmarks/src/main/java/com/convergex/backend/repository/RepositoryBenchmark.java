@@ -0,0 +1,165 @@
+package com.convergex.backend.repository;
+
+import com.convergex.backend.bench.BenchmarkContext;
+import com.convergex.backend.model.*;
+import com.convergex.backend.service.TimelineService;
+import com.convergex.backend.service.ViewerState;
+import com.convergex.backend.service.ViewerStateService;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The query paths behind the list, feed and detail endpoints, against an embedded H2 seeded with a
+ * fixed-seed campus: 500 users, 50 clubs, 10k events, follows, saves and registrations. Each call
+ * goes straight to the repository or service, without the catalog cache in front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+	private static final int USERS = 500;
+	private static final int CLUBS = 50;
+	private static final int EVENTS = 10_000;
+	private static final PageRequest PAGE = PageRequest.of(0, 51);
+
+	private ConfigurableApplicationContext context;
+	private EventRepository eventRepository;
+	private EventRegistrationRepository eventRegistrationRepository;
+	private TimelineEntryRepository timelineEntryRepository;
+	private EventCatalogCache eventCatalogCache;
+	private ViewerStateService viewerStateService;
+
+	private long[] userIds;
+	private long[] eventIds;
+	private final SplittableRandom random = new SplittableRandom(7);
+
+	@Setup
+	public void setup() {
+		context = BenchmarkContext.start();
+		eventRepository = context.getBean(EventRepository.class);
+		eventRegistrationRepository = context.getBean(EventRegistrationRepository.class);
+		timelineEntryRepository = context.getBean(TimelineEntryRepository.class);
+		eventCatalogCache = context.getBean(EventCatalogCache.class);
+		viewerStateService = context.getBean(ViewerStateService.class);
+		seed(new SplittableRandom(42));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<Long> recentEventIds() {
+		return eventRepository.findRecentIds(PAGE);
+	}
+
+	@Benchmark
+	public List<Long> recentEventIdsDeepPage() {
+		return eventRepository.findRecentIdsBefore(eventIds[random.nextInt(eventIds.length)], PAGE);
+	}
+
+	/** What a catalog-cache miss costs for a full page: the row projection plus the image-URL query. */
+	@Benchmark
+	public List<EventSnapshot> loadEventPage() {
+		int from = random.nextInt(eventIds.length - 50);
+		List<Long> ids = new ArrayList<>(50);
+		for (int i = from; i < from + 50; i++) ids.add(eventIds[i]);
+		eventCatalogCache.invalidateAll();
+		return eventCatalogCache.getAll(ids);
+	}
+
+	@Benchmark
+	public ViewerState viewerState() {
+		return viewerStateService.load(userIds[random.nextInt(userIds.length)]);
+	}
+
+	@Benchmark
+	public List<Long> timelinePage() {
+		return timelineEntryRepository.findTimelineEventIds(userIds[random.nextInt(userIds.length)], PAGE);
+	}
+
+	@Benchmark
+	public List<Object[]> registrationCounts() {
+		return eventRegistrationRepository.countGroupedByEventId();
+	}
+
+	private void seed(SplittableRandom random) {
+		UserRepository users = context.getBean(UserRepository.class);
+		ClubRepository clubs = context.getBean(ClubRepository.class);
+		UserFollowsClubRepository follows = context.getBean(UserFollowsClubRepository.class);
+		SavedEventRepository saves = context.getBean(SavedEventRepository.class);
+
+		List<User> userRows = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) userRows.add(new User("User " + i, "user" + i + "@bench.local", "x", null, null, null));
+		userRows = users.saveAll(userRows);
+
+		List<Club> newClubs = new ArrayList<>();
+		for (int i = 0; i < CLUBS; i++) {
+			Club club = new Club();
+			club.setName("Club " + i);
+			club.setAdmin(userRows.get(i));
+			newClubs.add(club);
+		}
+		List<Club> clubRows = clubs.saveAll(newClubs);
+
+		List<Event> newEvents = new ArrayList<>();
+		for (int i = 0; i < EVENTS; i++) {
+			Event event = new Event();
+			event.setTitle("Event " + i);
+			event.setDescription("Seeded event " + i);
+			event.setEventDate("2026-11-" + String.format("%02d", 1 + i % 28));
+			event.setLocation("Hall " + (i % 12));
+			event.setCapacity(i % 4 == 0 ? null : 100);
+			Club club = clubRows.get(random.nextInt(CLUBS));
+			event.setClub(club);
+			event.setPostedBy(club.getAdmin());
+			newEvents.add(event);
+		}
+		List<Event> eventRows = eventRepository.saveAll(newEvents);
+
+		List<UserFollowsClub> followRows = new ArrayList<>();
+		List<SavedEvent> saveRows = new ArrayList<>();
+		List<EventRegistration> registrationRows = new ArrayList<>();
+		for (User user : userRows) {
+			random.ints(5, 0, CLUBS).distinct().forEach(c -> {
+				UserFollowsClub follow = new UserFollowsClub();
+				follow.setUser(user);
+				follow.setClub(clubRows.get(c));
+				followRows.add(follow);
+			});
+			random.ints(20, 0, EVENTS).distinct().forEach(e -> {
+				SavedEvent saved = new SavedEvent();
+				saved.setUser(user);
+				saved.setEvent(eventRows.get(e));
+				saveRows.add(saved);
+			});
+			random.ints(40, 0, EVENTS).distinct().forEach(e -> {
+				EventRegistration registration = new EventRegistration();
+				registration.setUser(user);
+				registration.setEvent(eventRows.get(e));
+				registration.setStatus(RegistrationStatus.CONFIRMED);
+				registrationRows.add(registration);
+			});
+		}
+		follows.saveAll(followRows);
+		saves.saveAll(saveRows);
+		eventRegistrationRepository.saveAll(registrationRows);
+		context.getBean(TimelineService.class).rebuildAll();
+
+		userIds = userRows.stream().mapToLong(User::getId).toArray();
+		eventIds = eventRows.stream().mapToLong(Event::getId).toArray();
+	}
+}
@@ -0,0 +1,89 @@
+package com.convergex.backend.security.jwt;
+
+import com.convergex.backend.security.services.PrincipalCache;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.security.services.UserDetailsServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation, verification with and without the verified-token cache, and AuthTokenFilter
+ * end to end with warm caches (the common request). Plain objects, no Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+	private static final String SECRET = "ThisIsMyNewVeryLongSecretKeyGeneratedForConvergeXTesting123abcDEF456ghiJKL789mnoPQR";
+
+	private UserDetailsImpl principal;
+	private JwtUtils uncached;
+	private JwtUtils cached;
+	private AuthTokenFilter filter;
+	private String token;
+
+	@Setup
+	public void setup() {
+		principal = new UserDetailsImpl(1L, "Bench", "bench@tkmce.ac.in", "x", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		uncached = jwtUtils(0);
+		cached = jwtUtils(10_000);
+		token = cached.generateJwtTokenFromUserDetails(principal);
+
+		filter = new AuthTokenFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtils", cached);
+		ReflectionTestUtils.setField(filter, "principalCache", new PrincipalCache(10_000, 300_000));
+		ReflectionTestUtils.setField(filter, "userDetailsService", new UserDetailsServiceImpl() {
+			@Override
+			public UserDetails loadUserByUsername(String email) {
+				return principal;
+			}
+		});
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cached.generateJwtTokenFromUserDetails(principal);
+	}
+
+	@Benchmark
+	public JwtClaims verifyUncached() {
+		return uncached.verify(token);
+	}
+
+	@Benchmark
+	public JwtClaims verifyCached() {
+		return cached.verify(token);
+	}
+
+	@Benchmark
+	public Object authTokenFilter() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+		request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		Object authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+
+	private static JwtUtils jwtUtils(int cacheSize) {
+		JwtUtils utils = new JwtUtils();
+		ReflectionTestUtils.setField(utils, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(utils, "jwtExpirationMs", 86_400_000);
+		ReflectionTestUtils.setField(utils, "verifiedTokenCache", new VerifiedTokenCache(cacheSize));
+		utils.init();
+		return utils;
+	}
+}
@@ -0,0 +1,114 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.bench.BenchmarkContext;
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.EventRegistration;
+import com.convergex.backend.model.User;
+import com.convergex.backend.payload.AdminEventStatsDto;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The "my events" dashboard as the admin's event count grows: one COUNT per event (what it did
+ * before) against one projection query plus the maintained registration counters (what it does
+ * now). 50 students, each registered for a fifth of the events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrationCountBenchmark {
+
+	private static final int STUDENTS = 50;
+
+	@Param({"10", "100", "1000"})
+	public int events;
+
+	private ConfigurableApplicationContext context;
+	private EventRepository eventRepository;
+	private EventRegistrationRepository eventRegistrationRepository;
+	private RegistrationCountService registrationCountService;
+	private User admin;
+
+	@Setup
+	public void setup() {
+		context = BenchmarkContext.start();
+		eventRepository = context.getBean(EventRepository.class);
+		eventRegistrationRepository = context.getBean(EventRegistrationRepository.class);
+		registrationCountService = context.getBean(RegistrationCountService.class);
+		seed(new SplittableRandom(42));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<AdminEventStatsDto> countPerEvent() {
+		return eventRepository.findByPostedBy(admin).stream()
+				.map(event -> new AdminEventStatsDto(event, eventRegistrationRepository.countByEvent(event)))
+				.collect(Collectors.toList());
+	}
+
+	/** Same steps as UserController.getMyPostedEvents (called directly to stay outside method security). */
+	@Benchmark
+	public List<AdminEventStatsDto> maintainedCounters() {
+		List<AdminEventStatsDto> rows = eventRepository.findStatsRowsByPostedById(admin.getId());
+		for (AdminEventStatsDto row : rows) row.setRegistrationCount(registrationCountService.get(row.getId()));
+		return rows;
+	}
+
+	private void seed(SplittableRandom random) {
+		UserRepository users = context.getBean(UserRepository.class);
+		ClubRepository clubs = context.getBean(ClubRepository.class);
+
+		List<User> students = new ArrayList<>();
+		for (int i = 0; i < STUDENTS; i++) students.add(new User("Student " + i, "student" + i + "@bench.local", "x", null, null, null));
+		students = users.saveAll(students);
+
+		admin = users.save(new User("Admin", "admin@bench.local", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Bench Club");
+		club.setAdmin(admin);
+		club = clubs.save(club);
+
+		List<Event> posted = new ArrayList<>();
+		for (int i = 0; i < events; i++) {
+			Event event = new Event();
+			event.setTitle("Bench event " + i);
+			event.setEventDate("2026-11-01");
+			event.setClub(club);
+			event.setPostedBy(admin);
+			posted.add(event);
+		}
+		posted = eventRepository.saveAll(posted);
+
+		List<EventRegistration> registrations = new ArrayList<>();
+		for (Event event : posted) {
+			for (User student : students) {
+				if (random.nextInt(5) == 0) {
+					EventRegistration registration = new EventRegistration();
+					registration.setUser(student);
+					registration.setEvent(event);
+					registrations.add(registration);
+				}
+			}
+		}
+		eventRegistrationRepository.saveAll(registrations);
+		registrationCountService.reconcile();
+	}
+}
@@ -0,0 +1,85 @@
+package com.convergex.backend.service.images;
+
+import com.convergex.backend.bench.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ImageStorage#store} throughput: hashing while streaming to disk, fsync, the atomic rename
+ * and the image_blobs update. "unique" stores new content every call; "duplicate" re-uploads the
+ * same bytes, which only bumps the reference count. Variant generation runs in the background and
+ * is throttled here so it does not compete with the measured thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageStorageBenchmark {
+
+	@Param({"unique", "duplicate"})
+	public String content;
+
+	private ConfigurableApplicationContext context;
+	private ImageStorage imageStorage;
+	private Path uploads;
+	private byte[] png;
+	private long counter;
+
+	@Setup
+	public void setup() throws Exception {
+		uploads = Files.createTempDirectory("bench-uploads");
+		context = BenchmarkContext.start("app.upload.dir=" + uploads, "app.images.workers=1", "app.images.queue-capacity=4",
+				"logging.level.com.convergex.backend.service.images=error");
+		imageStorage = context.getBean(ImageStorage.class);
+
+		// ~50 KB of noise, so the file is realistic in size and does not compress away
+		BufferedImage image = new BufferedImage(128, 128, BufferedImage.TYPE_INT_RGB);
+		SplittableRandom random = new SplittableRandom(42);
+		for (int y = 0; y < 128; y++) {
+			for (int x = 0; x < 128; x++) image.setRGB(x, y, random.nextInt());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		png = Arrays.copyOf(out.toByteArray(), out.size() + Long.BYTES); // trailing bytes after IEND are ignored by decoders
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		context.close();
+		FileSystemUtils.deleteRecursively(uploads);
+	}
+
+	/** Keeps the disk footprint bounded; removed files are simply written again by the next store. */
+	@TearDown(Level.Iteration)
+	public void clearUploads() throws Exception {
+		try (var shards = Files.list(uploads)) {
+			for (Path shard : (Iterable<Path>) shards::iterator) {
+				if (Files.isDirectory(shard)) FileSystemUtils.deleteRecursively(shard);
+			}
+		}
+	}
+
+	@Benchmark
+	public String store() throws Exception {
+		byte[] bytes = png;
+		if (content.equals("unique")) {
+			bytes = png.clone();
+			ByteBuffer.wrap(bytes).putLong(bytes.length - Long.BYTES, ++counter);
+		}
+		return imageStorage.store(new MockMultipartFile("file", "bench.png", "image/png", bytes));
+	}
+}
@@ -0,0 +1,89 @@
+package com.convergex.backend.service.search;
+
+import com.convergex.backend.bench.load.Zipf;
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.EventSearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-20 search latency over a synthetic catalog whose words follow a Zipfian distribution over a
+ * 20k-word vocabulary (the 50 campus words below are the most common), with 1-3 word queries drawn
+ * the same way. Sampled, so the JSON carries p50/p99 per run; the target is a p99 under 1 ms at
+ * 100k events. Queries cycle through a fixed workload, so the index's result cache sees realistic
+ * repeats of popular queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSearchIndexBenchmark {
+
+	private static final String[] WORDS = {
+			"hackathon", "workshop", "robotics", "music", "dance", "drama", "coding", "python", "java", "cloud",
+			"startup", "pitch", "debate", "quiz", "photography", "film", "football", "cricket", "chess", "yoga",
+			"seminar", "career", "resume", "alumni", "talk", "night", "festival", "cultural", "technical", "open",
+			"mic", "poetry", "art", "design", "ui", "ux", "ai", "machine", "learning", "data",
+			"science", "blockchain", "security", "ctf", "gaming", "esports", "marathon", "cleanup", "blood", "donation"};
+	private static final String[] VENUES = {"Main Hall", "Seminar Hall 2", "CS Lab 1", "Open Air Theatre", "Library Auditorium"};
+	private static final int VOCABULARY = 20_000;
+	private static final int QUERIES = 20_000;
+
+	@Param({"100000"})
+	public int events;
+
+	private EventSearchIndex index;
+	private String[] workload;
+	private int next;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		Zipf words = new Zipf(VOCABULARY, 1.0);
+		Club[] clubs = new Club[200];
+		for (int i = 0; i < clubs.length; i++) {
+			clubs[i] = new Club();
+			clubs[i].setId((long) i);
+			clubs[i].setName(word(words, random) + " club " + i);
+		}
+
+		index = new EventSearchIndex();
+		for (long id = 1; id <= events; id++) {
+			Event event = new Event();
+			event.setId(id);
+			event.setTitle(phrase(words, random, 4));
+			event.setDescription(phrase(words, random, 30));
+			event.setLocation(VENUES[random.nextInt(VENUES.length)]);
+			event.setClub(clubs[random.nextInt(clubs.length)]);
+			event.setImageUrls(List.of("/images/" + id + ".jpg"));
+			index.upsert(event);
+		}
+
+		workload = new String[QUERIES];
+		for (int i = 0; i < QUERIES; i++) workload[i] = phrase(words, random, 1 + random.nextInt(3));
+	}
+
+	@Benchmark
+	public List<EventSearchResult> searchTop20() {
+		String query = workload[next];
+		next = next + 1 == QUERIES ? 0 : next + 1;
+		return index.search(query, 0, 20);
+	}
+
+	private static String phrase(Zipf words, SplittableRandom random, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++) sb.append(word(words, random)).append(' ');
+		return sb.toString();
+	}
+
+	private static String word(Zipf words, SplittableRandom random) {
+		int rank = words.next(random);
+		return rank < WORDS.length ? WORDS[rank] : "term" + rank;
+	}
+}
@@ -0,0 +1,112 @@
+package com.convergex.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps how many requests run at once, sized from the JDBC pool.
+ *
+ * With platform threads Tomcat's pool is the cap. With virtual threads there is none, and a burst
+ * turns into thousands of requests queued inside Hikari, each holding its memory and timing out
+ * after connectionTimeout. This filter makes the excess wait here instead, up to max-wait-ms, and
+ * then answers 503 with Retry-After. The permits are maximumPoolSize * requests-per-connection,
+ * because a request spends only part of its time holding a connection. Semaphore waits park
+ * without pinning, so waiting requests cost no carrier threads.
+ *
+ * On by default only in virtual-thread mode (spring.threads.virtual.enabled). Image downloads,
+ * event streams and metrics scrapes never touch the database and are not limited.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final boolean enabled;
+    private final int permits;
+    private final long maxWaitMs;
+    private final Semaphore semaphore;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitFilter(DataSource dataSource,
+                                  @Value("${app.concurrency.limit.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                                  @Value("${app.concurrency.limit.requests-per-connection:2}") int requestsPerConnection,
+                                  @Value("${app.concurrency.limit.max-wait-ms:2000}") long maxWaitMs) {
+        // Hikari reports -1 until the pool starts, then applies its default of 10
+        int poolSize = dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0
+                ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        this.enabled = enabled;
+        this.permits = Math.max(1, poolSize * requestsPerConnection);
+        this.maxWaitMs = maxWaitMs;
+        this.semaphore = new Semaphore(permits, true);
+        if (enabled) {
+            logger.info("ConcurrencyLimitFilter: {} concurrent requests for a pool of {} connections", permits, poolSize);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled || path.startsWith("/images/") || path.equals("/api/stream") || path.startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!semaphore.tryAcquire()) {
+            queued.incrementAndGet();
+            boolean acquired;
+            try {
+                acquired = semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                rejected.incrementAndGet();
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"message\":\"Error: Server busy, please retry.\"}");
+                return;
+            }
+        }
+        admitted.incrementAndGet();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public int getPermits() { return permits; }
+    public int getInFlight() { return permits - semaphore.availablePermits(); }
+    public int getWaiting() { return semaphore.getQueueLength(); }
+    public long getAdmittedCount() { return admitted.get(); }
+    public long getQueuedCount() { return queued.get(); }
+    public long getRejectedCount() { return rejected.get(); }
+}
@@ -1,5 +1,6 @@
 package com.convergex.backend.config;
 
+import com.convergex.backend.payload.KeysetPage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -16,7 +17,8 @@ public class CorsConfig {
                 registry.addMapping("/**")
                         .allowedOrigins("*")
                         .allowedMethods("*")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        .exposedHeaders(KeysetPage.NEXT_CURSOR_HEADER);
             }
         };
     }
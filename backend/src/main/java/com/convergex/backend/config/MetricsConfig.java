@@ -0,0 +1,48 @@
+package com.convergex.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Meters that Spring Boot does not provide on its own. Route latency (http.server.requests),
+ * repository timers (spring.data.repository.invocations) and the raw Hikari gauges are
+ * auto-configured; see the METRICS section of application.properties for their histograms.
+ * Everything is scraped from /actuator/prometheus on the management port (management.server.port).
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Share of the JDBC pool in use, and the request limiter sized from it. */
+    @Bean
+    public MeterBinder poolSaturationMetrics(DataSource dataSource, ConcurrencyLimitFilter limiter) {
+        return registry -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                Gauge.builder("db.pool.saturation", hikari, MetricsConfig::saturation)
+                        .description("Active connections / maximum pool size")
+                        .register(registry);
+            }
+            Gauge.builder("http.limiter.in.flight", limiter, ConcurrencyLimitFilter::getInFlight)
+                    .description("Requests holding a limiter permit")
+                    .register(registry);
+            Gauge.builder("http.limiter.waiting", limiter, ConcurrencyLimitFilter::getWaiting)
+                    .description("Requests queued for a limiter permit")
+                    .register(registry);
+            FunctionCounter.builder("http.limiter.rejected", limiter, ConcurrencyLimitFilter::getRejectedCount)
+                    .description("Requests answered 503 after waiting max-wait-ms")
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean(); // null until the pool starts
+        int max = hikari.getMaximumPoolSize();
+        return pool == null || max <= 0 ? 0.0 : (double) pool.getActiveConnections() / max;
+    }
+}
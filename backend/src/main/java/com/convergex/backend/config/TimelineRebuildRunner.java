@@ -0,0 +1,32 @@
+package com.convergex.backend.config;
+
+import com.convergex.backend.service.TimelineService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs every materialized feed at startup when launched with {@code --rebuild-timelines}.
+ * The same repair is available at runtime via POST /api/events/feed/rebuild.
+ */
+@Component
+@Order(10)
+public class TimelineRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineRebuildRunner.class);
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption("rebuild-timelines")) {
+            logger.info("TimelineRebuildRunner: Rebuilding user timelines...");
+            timelineService.rebuildAll(); // logs the number of users rebuilt
+        }
+    }
+}
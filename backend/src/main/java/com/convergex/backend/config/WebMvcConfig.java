@@ -1,21 +1,22 @@
 package com.convergex.backend.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.convergex.backend.security.CurrentUserArgumentResolver;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
-    @Value("${app.upload.dir}")
-    private String uploadDir;
+    @Autowired
+    private CurrentUserArgumentResolver currentUserArgumentResolver;
 
     @Override
-    public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        // Maps the URL path /images/** to the physical directory specified by uploadDir
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:" + uploadDir + "/");
+    public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
     }
-}
\ No newline at end of file
+}
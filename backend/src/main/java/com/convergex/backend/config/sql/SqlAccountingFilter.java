@@ -0,0 +1,156 @@
+package com.convergex.backend.config.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounts every request's SQL in a {@link SqlStats}, aggregates it per endpoint (method plus
+ * route pattern, e.g. "GET /api/events/{id}") and flags N+1 patterns: when one request runs the
+ * same statement shape more than app.diagnostics.sql.repeat-threshold times, a structured warning
+ * is logged (the first time per endpoint and shape, then every 100th time).
+ *
+ * With app.diagnostics.sql.headers=true (diagnostics mode) the counts are also sent back as
+ * X-SQL-* and Server-Timing response headers. That buffers the response body so the headers can
+ * follow it, so it is off by default. Image downloads and event streams are not accounted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ENTITY_LOADS_HEADER = "X-SQL-Entity-Loads";
+    public static final String COLLECTION_FETCHES_HEADER = "X-SQL-Collection-Fetches";
+    public static final String JDBC_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final boolean enabled;
+    private final boolean headers;
+    private final int repeatThreshold;
+
+    private final ConcurrentHashMap<String, EndpointSqlStats> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> repeatWarnings = new ConcurrentHashMap<>();
+
+    public SqlAccountingFilter(@Value("${app.diagnostics.sql.enabled:true}") boolean enabled,
+                               @Value("${app.diagnostics.sql.headers:false}") boolean headers,
+                               @Value("${app.diagnostics.sql.repeat-threshold:10}") int repeatThreshold) {
+        this.enabled = enabled;
+        this.headers = headers;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled || path.startsWith("/images/") || path.equals("/api/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin();
+        request.setAttribute(SqlStats.REQUEST_ATTRIBUTE, stats);
+        ContentCachingResponseWrapper buffered = headers ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStats.end();
+            String endpoint = endpoint(request);
+            endpoints.computeIfAbsent(endpoint, e -> new EndpointSqlStats()).record(stats);
+            warnOnRepeats(endpoint, stats);
+            if (buffered != null) {
+                writeHeaders(buffered, stats);
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void warnOnRepeats(String endpoint, SqlStats stats) {
+        for (Map.Entry<String, Integer> repeated : stats.repeatedMoreThan(repeatThreshold).entrySet()) {
+            endpoints.get(endpoint).repeatWarnings.increment();
+            long seen = repeatWarnings.computeIfAbsent(endpoint + '\n' + repeated.getKey(), k -> new AtomicLong()).incrementAndGet();
+            if (seen == 1 || seen % 100 == 0) {
+                logger.warn("SqlAccountingFilter: N+1 suspected endpoint=\"{}\" repeats={} threshold={} statements={} seen={} sql=\"{}\"",
+                        endpoint, repeated.getValue(), repeatThreshold, stats.getStatements(), seen, repeated.getKey());
+            }
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.setHeader(ENTITY_LOADS_HEADER, String.valueOf(stats.getEntityLoads()));
+        response.setHeader(COLLECTION_FETCHES_HEADER, String.valueOf(stats.getCollectionFetches()));
+        response.setHeader(JDBC_TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.getJdbcMillis()));
+        response.addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"",
+                stats.getJdbcMillis(), stats.getStatements()));
+    }
+
+    /** Method plus the matched route pattern; unmatched requests share one key so the map stays small. */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmatched)");
+    }
+
+    /** Endpoints by total statements, heaviest first. */
+    public List<Map.Entry<String, EndpointSqlStats>> getEndpointStats() {
+        return endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, EndpointSqlStats> e) -> e.getValue().getStatements()).reversed())
+                .toList();
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public int getRepeatThreshold() { return repeatThreshold; }
+
+    /** Running totals for one endpoint. */
+    public static final class EndpointSqlStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder entityLoads = new LongAdder();
+        private final LongAdder collectionFetches = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAdder repeatWarnings = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        void record(SqlStats stats) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            entityLoads.add(stats.getEntityLoads());
+            collectionFetches.add(stats.getCollectionFetches());
+            jdbcNanos.add(stats.getJdbcNanos());
+            maxStatements.accumulateAndGet(stats.getStatements(), Math::max);
+        }
+
+        public long getRequests() { return requests.sum(); }
+        public long getStatements() { return statements.sum(); }
+        public long getEntityLoads() { return entityLoads.sum(); }
+        public long getCollectionFetches() { return collectionFetches.sum(); }
+        public long getJdbcNanos() { return jdbcNanos.sum(); }
+        public long getRepeatWarnings() { return repeatWarnings.sum(); }
+        public long getMaxStatements() { return maxStatements.get(); }
+
+        public double getAverageStatements() {
+            long n = requests.sum();
+            return n == 0 ? 0.0 : (double) statements.sum() / n;
+        }
+    }
+}
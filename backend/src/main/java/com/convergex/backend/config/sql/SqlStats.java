@@ -0,0 +1,90 @@
+package com.convergex.backend.config.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * What Hibernate did for one HTTP request: statements prepared, entities loaded, collections
+ * initialized and time spent executing JDBC statements, plus how often each statement shape ran.
+ *
+ * Bound to the request thread by {@link SqlAccountingFilter}; the Hibernate hooks in
+ * {@link SqlStatsHibernateConfig} add to whatever is bound and ignore threads with nothing bound
+ * (schedulers, image workers). Only ever touched by the request's own thread, so not synchronized.
+ */
+public final class SqlStats {
+
+    /** Request attribute holding the request's stats, for tests and anything running after the filter. */
+    public static final String REQUEST_ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    // "in (?,?,?)" and "in (?,?)" are the same query with a different batch size
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+    private long jdbcNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The stats of the request running on this thread, or null. */
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    void onEntityLoad() { entityLoads++; }
+    void onCollectionFetch() { collectionFetches++; }
+    void onJdbcTime(long nanos) { jdbcNanos += nanos; }
+
+    public int getStatements() { return statements; }
+    public int getEntityLoads() { return entityLoads; }
+    public int getCollectionFetches() { return collectionFetches; }
+    public long getJdbcNanos() { return jdbcNanos; }
+    public double getJdbcMillis() { return jdbcNanos / 1_000_000.0; }
+
+    /** Statement shape to execution count. */
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    /** Shapes that ran more than {@code threshold} times, most repeated first: the N+1 suspects. */
+    public Map<String, Integer> repeatedMoreThan(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(e -> e.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+        return repeated;
+    }
+
+    /** The SQL with parameter lists collapsed and whitespace normalized, so repeats of one query compare equal. */
+    static String shape(String sql) {
+        String collapsed = PARAMETER_LIST.matcher(sql).replaceAll("(?...)");
+        return WHITESPACE.matcher(collapsed).replaceAll(" ").trim();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d statements, %d entity loads, %d collection fetches, %.2f ms JDBC; by shape: %s",
+                statements, entityLoads, collectionFetches, getJdbcMillis(), shapes);
+    }
+}
@@ -0,0 +1,100 @@
+package com.convergex.backend.config.sql;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Feeds {@link SqlStats} from Hibernate: a statement inspector counts every prepared statement and
+ * its shape, a session listener times JDBC execution, and post-load / collection-initialization
+ * listeners count entity loads and collection fetches. Each hook is a ThreadLocal read when no
+ * request is bound. Off with app.diagnostics.sql.enabled=false.
+ */
+@Configuration
+public class SqlStatsHibernateConfig {
+
+    /** Hibernate's key for the IntegratorProvider it consults while building the session factory. */
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsHibernateCustomizer(
+            @Value("${app.diagnostics.sql.enabled:true}") boolean enabled) {
+        return properties -> {
+            if (!enabled) return;
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                SqlStats stats = SqlStats.current();
+                if (stats != null) stats.onStatement(sql);
+                return sql;
+            });
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new LoadCountingIntegrator()));
+        };
+    }
+
+    /** Instantiated by Hibernate for every session. */
+    public static class JdbcTimingListener implements SessionEventListener {
+
+        private long executeStart;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            record();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            record();
+        }
+
+        private void record() {
+            SqlStats stats = SqlStats.current();
+            if (stats != null) stats.onJdbcTime(System.nanoTime() - executeStart);
+        }
+    }
+
+    static class LoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> {
+                SqlStats stats = SqlStats.current();
+                if (stats != null) stats.onEntityLoad();
+            });
+            registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event -> {
+                SqlStats stats = SqlStats.current();
+                if (stats != null) stats.onCollectionFetch();
+            });
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
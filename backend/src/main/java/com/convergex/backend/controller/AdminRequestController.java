@@ -1,18 +1,15 @@
 package com.convergex.backend.controller;
-import com.convergex.backend.model.*; import com.convergex.backend.payload.*; import com.convergex.backend.repository.*;
+import com.convergex.backend.model.*; import com.convergex.backend.payload.*; import com.convergex.backend.repository.*; import com.convergex.backend.security.CurrentUser; import com.convergex.backend.security.services.PrincipalCache; import com.convergex.backend.security.services.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired; import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize; import org.springframework.security.core.*;
-import org.springframework.security.core.context.SecurityContextHolder; import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*; import java.time.LocalDateTime; import java.util.*; import java.util.stream.Collectors;
 @RestController @RequestMapping("/api/admin-requests") @CrossOrigin(origins = "*")
 public class AdminRequestController {
-    @Autowired private AdminRequestRepository adminRequestRepository; @Autowired private UserRepository userRepository; @Autowired private RoleRepository roleRepository;
-    private User getCurrentUser() { Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName()).orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + auth.getName())); }
+    @Autowired private AdminRequestRepository adminRequestRepository; @Autowired private UserRepository userRepository; @Autowired private RoleRepository roleRepository; @Autowired private PrincipalCache principalCache;
 
     @PostMapping @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<?> requestAdminAccess() { User u = getCurrentUser();
-        boolean isAdmin = u.getRoles().stream().anyMatch(r -> r.getName()==ERole.ROLE_ADMIN || r.getName()==ERole.ROLE_SUPER_ADMIN);
+    public ResponseEntity<?> requestAdminAccess(@CurrentUser UserDetailsImpl p) { User u = userRepository.getReferenceById(p.getId());
+        boolean isAdmin = p.hasRole(ERole.ROLE_ADMIN) || p.hasRole(ERole.ROLE_SUPER_ADMIN);
         if (isAdmin) { return ResponseEntity.badRequest().body(new MessageResponse("Already admin")); }
         if (adminRequestRepository.existsByUser(u)) { AdminRequest existing = adminRequestRepository.findByUser(u).get();
             if (existing.getStatus() == RequestStatus.PENDING) return ResponseEntity.badRequest().body(new MessageResponse("Pending request exists"));
@@ -31,7 +28,7 @@ public class AdminRequestController {
     public ResponseEntity<?> approveRequest(@PathVariable Long requestId) { AdminRequest req = adminRequestRepository.findById(requestId).orElseThrow(() -> new RuntimeException("Request not found"));
         if (req.getStatus()!=RequestStatus.PENDING) { return ResponseEntity.badRequest().body(new MessageResponse("Request not pending")); }
         User user = req.getUser(); Role adminRole = roleRepository.findByName(ERole.ROLE_ADMIN).orElseThrow(() -> new RuntimeException("ROLE_ADMIN not found"));
-        user.getRoles().add(adminRole); userRepository.save(user);
+        user.getRoles().add(adminRole); userRepository.save(user); principalCache.invalidate(user.getEmail()); // new role applies on the next request
         req.setStatus(RequestStatus.APPROVED); req.setReviewedAt(LocalDateTime.now()); adminRequestRepository.save(req);
         return ResponseEntity.ok(new MessageResponse("Request approved")); }
 
@@ -0,0 +1,102 @@
+package com.convergex.backend.controller;
+
+import com.convergex.backend.config.ConcurrencyLimitFilter;
+import com.convergex.backend.config.sql.SqlAccountingFilter;
+import com.convergex.backend.security.services.PrincipalCache;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/diagnostics")
+@CrossOrigin(origins = "*")
+public class DiagnosticsController {
+
+    @Autowired private PrincipalCache principalCache;
+    @Autowired private EventCatalogCache eventCatalogCache;
+    @Autowired private ConcurrencyLimitFilter concurrencyLimitFilter;
+    @Autowired private SqlAccountingFilter sqlAccountingFilter;
+    @Autowired private Environment environment;
+
+    /** GET /api/diagnostics/caches (Super Admin only) */
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> principal = new LinkedHashMap<>();
+        principal.put("size", principalCache.size());
+        principal.put("hits", principalCache.getHitCount());
+        principal.put("misses", principalCache.getMissCount());
+        principal.put("hitRate", principalCache.getHitRate());
+        principal.put("evictions", principalCache.getEvictionCount());
+        principal.put("invalidations", principalCache.getInvalidationCount());
+
+        Map<String, Object> events = new LinkedHashMap<>();
+        events.put("enabled", eventCatalogCache.isEnabled());
+        events.put("size", eventCatalogCache.size());
+        events.put("weightBytes", eventCatalogCache.getWeightBytes());
+        events.put("hits", eventCatalogCache.getHitCount());
+        events.put("misses", eventCatalogCache.getMissCount());
+        events.put("hitRate", eventCatalogCache.getHitRate());
+        events.put("evictions", eventCatalogCache.getEvictionCount());
+        events.put("invalidations", eventCatalogCache.getInvalidationCount());
+        events.put("loads", eventCatalogCache.getLoadCount());
+        events.put("avgLoadMs", eventCatalogCache.getAverageLoadMillis());
+
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("principal", principal);
+        caches.put("events", events);
+        return ResponseEntity.ok(caches);
+    }
+
+    /** GET /api/diagnostics/concurrency (Super Admin only) */
+    @GetMapping("/concurrency")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Map<String, Object>> getConcurrencyStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("virtualThreads", Threading.VIRTUAL.isActive(environment));
+        stats.put("limiterEnabled", concurrencyLimitFilter.isEnabled());
+        stats.put("permits", concurrencyLimitFilter.getPermits());
+        stats.put("inFlight", concurrencyLimitFilter.getInFlight());
+        stats.put("waiting", concurrencyLimitFilter.getWaiting());
+        stats.put("admitted", concurrencyLimitFilter.getAdmittedCount());
+        stats.put("queued", concurrencyLimitFilter.getQueuedCount());
+        stats.put("rejected", concurrencyLimitFilter.getRejectedCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    /** GET /api/diagnostics/sql (Super Admin only) - per-endpoint statement totals, heaviest first */
+    @GetMapping("/sql")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSqlStats() {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        sqlAccountingFilter.getEndpointStats().forEach(entry -> {
+            SqlAccountingFilter.EndpointSqlStats stats = entry.getValue();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.put("requests", stats.getRequests());
+            endpoint.put("statements", stats.getStatements());
+            endpoint.put("avgStatements", stats.getAverageStatements());
+            endpoint.put("maxStatements", stats.getMaxStatements());
+            endpoint.put("entityLoads", stats.getEntityLoads());
+            endpoint.put("collectionFetches", stats.getCollectionFetches());
+            endpoint.put("jdbcMs", stats.getJdbcNanos() / 1_000_000.0);
+            endpoint.put("repeatWarnings", stats.getRepeatWarnings());
+            endpoints.add(endpoint);
+        });
+
+        Map<String, Object> sql = new LinkedHashMap<>();
+        sql.put("enabled", sqlAccountingFilter.isEnabled());
+        sql.put("repeatThreshold", sqlAccountingFilter.getRepeatThreshold());
+        sql.put("endpoints", endpoints);
+        return ResponseEntity.ok(sql);
+    }
+}
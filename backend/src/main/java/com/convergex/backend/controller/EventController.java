@@ -2,21 +2,44 @@ package com.convergex.backend.controller;
 
 import com.convergex.backend.model.*;
 import com.convergex.backend.payload.EventDetailsResponse;
+import com.convergex.backend.payload.EventSearchResult;
+import com.convergex.backend.payload.KeysetPage;
 import com.convergex.backend.payload.MessageResponse;
+import com.convergex.backend.payload.Suggestion;
 import com.convergex.backend.repository.*;
-import com.convergex.backend.service.ImageUploadService;
+import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.service.CatalogVersionService;
+import com.convergex.backend.service.EventScheduleService;
+import com.convergex.backend.service.RegistrationCountService;
+import com.convergex.backend.service.RegistrationService;
+import com.convergex.backend.service.TimelineService;
+import com.convergex.backend.service.ViewerState;
+import com.convergex.backend.service.ViewerStateService;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import com.convergex.backend.service.images.ImageStorage;
+import com.convergex.backend.service.images.ImageVariant;
+import com.convergex.backend.service.search.EventSearchIndex;
+import com.convergex.backend.service.search.SuggestionIndex;
+import com.convergex.backend.service.stream.EventStreamService;
+import com.convergex.backend.service.sync.ChangeLogService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,77 +51,167 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class EventController {
 
+    /** Upper bound of a range query without "to"; far beyond any event but inside every database's timestamp range. */
+    private static final Instant OPEN_ENDED = Instant.parse("9999-12-31T00:00:00Z");
+
     @Autowired private EventRepository eventRepository;
     @Autowired private UserRepository userRepository;
     @Autowired private SavedEventRepository savedEventRepository;
     @Autowired private EventRegistrationRepository eventRegistrationRepository;
-    @Autowired private ImageUploadService imageUploadService;
+    @Autowired private ImageStorage imageStorage;
     @Autowired private ObjectMapper objectMapper;
     @Autowired private ClubRepository clubRepository;
     @Autowired private UserFollowsClubRepository userFollowsClubRepository;
+    @Autowired private ViewerStateService viewerStateService;
+    @Autowired private TimelineService timelineService;
+    @Autowired private EventSearchIndex eventSearchIndex;
+    @Autowired private SuggestionIndex suggestionIndex;
+    @Autowired private RegistrationCountService registrationCountService;
+    @Autowired private RegistrationService registrationService;
+    @Autowired private CatalogVersionService catalogVersionService;
+    @Autowired private EventCatalogCache eventCatalogCache;
+    @Autowired private EventStreamService eventStreamService;
+    @Autowired private ChangeLogService changeLogService;
+    @Autowired private EventScheduleService eventScheduleService;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    /** Existence check plus a lazy reference, for write paths that only need the event's foreign key. */
+    private Event getEventReference(Long id) {
+        if (!eventRepository.existsById(id)) {
+            throw new RuntimeException("Error: Event not found.");
+        }
+        return eventRepository.getReferenceById(id);
+    }
+
+    /**
+     * Answers 304 from the catalog version alone, before any repository is touched. Responses are
+     * marked private/no-cache so clients keep them but always come back with If-None-Match.
+     */
+    private boolean notModified(ServletWebRequest request, Long currentUserId) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return request.checkNotModified(catalogVersionService.etagFor(currentUserId));
+    }
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-               .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + auth.getName()));
+    private static void validateCapacity(Integer capacity) {
+        if (capacity != null && capacity < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Capacity must be at least 1.");
+        }
     }
 
-    /** GET /api/events (Authenticated users) */
+    /**
+     * GET /api/events?cursor=&limit= (Authenticated users, newest first)
+     * GET /api/events?from=&to=&clubId=&cursor=&limit= (events starting in [from, to), chronological)
+     *
+     * from / to are ISO instants or dates (start of that day on campus). With only clubId or only to,
+     * from defaults to now ("upcoming"); without to the window is open-ended.
+     */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<EventDetailsResponse>> getAllEvents() {
-        User currentUser = getCurrentUser();
-        List<Event> allEvents = eventRepository.findAll(); 
-
-        Set<Long> followedClubIds = userFollowsClubRepository.findAllByUser(currentUser).stream()
-                .map(follow -> follow.getClub().getId())
-                .collect(Collectors.toSet());
-
-        List<EventDetailsResponse> responseList = allEvents.stream().map(event -> {
-            boolean isSaved = savedEventRepository.existsByUserAndEvent(currentUser, event);
-            boolean isRegistered = eventRegistrationRepository.existsByUserAndEvent(currentUser, event);
-            boolean isFollowed = followedClubIds.contains(event.getClub().getId());
-            return new EventDetailsResponse(event, isSaved, isRegistered, isFollowed);
-        }).collect(Collectors.toList());
-
-        return ResponseEntity.ok(responseList);
+    public ResponseEntity<List<EventDetailsResponse>> getAllEvents(
+            @CurrentUser Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long clubId,
+            ServletWebRequest request
+    ) {
+        if (from != null || to != null || clubId != null) {
+            return getEventsStartingBetween(currentUserId, cursor, limit, from, to, clubId, request);
+        }
+        if (notModified(request, currentUserId)) {
+            return null;
+        }
+        int pageSize = KeysetPage.clampLimit(limit);
+        Long afterId = KeysetPage.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Long> eventIds = afterId == null
+                ? eventRepository.findRecentIds(fetch)
+                : eventRepository.findRecentIdsBefore(afterId, fetch);
+
+        ViewerState viewer = viewerStateService.load(currentUserId);
+        return KeysetPage.of(eventIds, pageSize, id -> id)
+                .map(page -> viewer.decorateSnapshots(eventCatalogCache.getAll(page)))
+                .toResponse();
+    }
+
+    private ResponseEntity<List<EventDetailsResponse>> getEventsStartingBetween(
+            Long currentUserId, String cursor, Integer limit, String from, String to, Long clubId, ServletWebRequest request) {
+        // A window relative to "now" moves without any write, so only explicit windows are revalidated by ETag
+        if (from != null && notModified(request, currentUserId)) {
+            return null;
+        }
+        Instant start = from != null ? eventScheduleService.parseBound(from) : Instant.now();
+        Instant end = to != null ? eventScheduleService.parseBound(to) : OPEN_ENDED;
+        if (!start.isBefore(end)) {
+            return ResponseEntity.ok(Collections.emptyList());
+        }
+        int pageSize = KeysetPage.clampLimit(limit);
+        Long afterId = KeysetPage.decode(cursor);
+        Instant after = afterId != null ? eventRepository.findStartsAtById(afterId) : null;
+        if (afterId != null && after == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Invalid cursor.");
+        }
+
+        // The cursor is the last event's id; its start is looked up by primary key to continue the (startsAt, id) order
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Long> eventIds;
+        if (clubId == null) {
+            eventIds = after == null
+                    ? eventRepository.findIdsStartingBetween(start, end, fetch)
+                    : eventRepository.findIdsStartingBetweenAfter(after, afterId, end, fetch);
+        } else {
+            eventIds = after == null
+                    ? eventRepository.findIdsByClubIdStartingBetween(clubId, start, end, fetch)
+                    : eventRepository.findIdsByClubIdStartingBetweenAfter(clubId, after, afterId, end, fetch);
+        }
+
+        ViewerState viewer = viewerStateService.load(currentUserId);
+        return KeysetPage.of(eventIds, pageSize, id -> id)
+                .map(page -> viewer.decorateSnapshots(eventCatalogCache.getAll(page)))
+                .toResponse();
     }
 
-    /** GET /api/events/feed (Authenticated users) */
+    /** GET /api/events/feed?cursor=&limit= (Authenticated users, newest first) */
     @GetMapping("/feed")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<EventDetailsResponse>> getSubscribedFeed() {
-        User currentUser = getCurrentUser();
-        
-        Set<Club> followedClubs = userFollowsClubRepository.findAllByUser(currentUser).stream()
-                .map(UserFollowsClub::getClub)
-                .collect(Collectors.toSet());
-        
-        List<Event> allEvents = eventRepository.findAll();
-        
-        List<Event> feedEvents = allEvents.stream()
-                .filter(event -> followedClubs.contains(event.getClub()))
-                .collect(Collectors.toList());
+    public ResponseEntity<List<EventDetailsResponse>> getSubscribedFeed(
+            @CurrentUser Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            ServletWebRequest request
+    ) {
+        if (notModified(request, currentUserId)) {
+            return null;
+        }
+        int pageSize = KeysetPage.clampLimit(limit);
+        Long afterId = KeysetPage.decode(cursor);
+
+        ViewerState viewer = viewerStateService.load(currentUserId);
+        Set<Long> followedClubIds = viewer.getFollowedClubIds();
+        if (followedClubIds.isEmpty()) {
+            return ResponseEntity.ok(Collections.emptyList());
+        }
 
-        List<EventDetailsResponse> responseList = feedEvents.stream().map(event -> {
-            boolean isSaved = savedEventRepository.existsByUserAndEvent(currentUser, event);
-            boolean isRegistered = eventRegistrationRepository.existsByUserAndEvent(currentUser, event);
-            return new EventDetailsResponse(event, isSaved, isRegistered, true); 
-        }).collect(Collectors.toList());
+        List<Long> feedEventIds = timelineService.readFeedIds(currentUserId, followedClubIds, afterId, pageSize + 1);
 
-        return ResponseEntity.ok(responseList);
+        return KeysetPage.of(feedEventIds, pageSize, id -> id)
+                .map(page -> viewer.decorateSnapshots(eventCatalogCache.getAll(page)))
+                .toResponse();
     }
 
     /** POST /api/events (Admin/Super Admin only) */
     @PostMapping(consumes = {"multipart/form-data"})
     @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
-    public Event createEvent(
+    public ResponseEntity<EventDetailsResponse> createEvent(
+            @CurrentUser User currentUser,
             @RequestParam("event") String eventJson,
             @RequestParam(value = "files", required = false) List<MultipartFile> files
     ) throws IOException {
         
         Event eventData = objectMapper.readValue(eventJson, Event.class);
-        User currentUser = getCurrentUser();
+        validateCapacity(eventData.getCapacity());
         
         Club club = clubRepository.findByName(eventData.getClub().getName())
             .orElseGet(() -> {
@@ -114,45 +227,63 @@ public class EventController {
         event.setEventDate(eventData.getEventDate());
         event.setEventTime(eventData.getEventTime());
         event.setLocation(eventData.getLocation());
+        event.setCapacity(eventData.getCapacity());
+        event.setStartsAt(eventData.getStartsAt());
+        event.setEndsAt(eventData.getEndsAt());
+        eventScheduleService.applySchedule(event);
         event.setClub(club);
         event.setPostedBy(currentUser);
 
-        List<String> imageUrls = new ArrayList<>();
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                if (!file.isEmpty()) {
-                    String fileUrl = imageUploadService.store(file);
-                    imageUrls.add(fileUrl);
-                }
-            }
-        }
+        List<String> imageUrls = storeUploads(files);
         event.setImageUrls(imageUrls);
-        return eventRepository.save(event);
+        Event savedEvent;
+        try {
+            savedEvent = eventRepository.save(event);
+        } catch (RuntimeException e) {
+            imageStorage.release(imageUrls); // no row references them
+            throw e;
+        }
+        timelineService.onEventCreated(savedEvent);
+        eventSearchIndex.upsert(savedEvent);
+        suggestionIndex.addClub(club);
+        suggestionIndex.upsert(savedEvent);
+        catalogVersionService.bumpGlobal();
+        eventStreamService.onEventCreated(savedEvent);
+        changeLogService.onEventChanged(savedEvent.getId());
+        // Respond with the DTO: postedBy is a lazy reference and must not be serialized
+        return ResponseEntity.ok(viewerStateService.load(currentUser.getId()).decorate(savedEvent));
+    }
+
+    /** POST /api/events/feed/rebuild (Super Admin only) - repairs every materialized timeline */
+    @PostMapping("/feed/rebuild")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> rebuildTimelines() {
+        int users = timelineService.rebuildAll();
+        return ResponseEntity.ok(new MessageResponse("Rebuilt timelines for " + users + " users."));
     }
 
     /** GET /api/events/{id} (Authenticated users) */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<EventDetailsResponse> getEventById(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Event not found."));
-
-        boolean isSaved = savedEventRepository.existsByUserAndEvent(currentUser, event);
-        boolean isRegistered = eventRegistrationRepository.existsByUserAndEvent(currentUser, event);
-        boolean isFollowed = userFollowsClubRepository.existsByUserAndClub(currentUser, event.getClub());
+    public ResponseEntity<EventDetailsResponse> getEventById(@PathVariable Long id, @CurrentUser Long currentUserId,
+                                                             ServletWebRequest request) {
+        if (notModified(request, currentUserId)) {
+            return null;
+        }
+        EventSnapshot event = eventCatalogCache.get(id);
+        if (event == null) {
+            throw new RuntimeException("Error: Event not found.");
+        }
 
-        EventDetailsResponse response = new EventDetailsResponse(event, isSaved, isRegistered, isFollowed);
+        EventDetailsResponse response = viewerStateService.load(currentUserId).decorate(event);
         return ResponseEntity.ok(response);
     }
 
     /** POST /api/events/{id}/save (Authenticated users) */
     @PostMapping("/{id}/save")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> saveEvent(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Event not found."));
+    public ResponseEntity<?> saveEvent(@PathVariable Long id, @CurrentUser User currentUser) {
+        Event event = getEventReference(id);
 
         if (savedEventRepository.existsByUserAndEvent(currentUser, event)) {
             return ResponseEntity.badRequest().body(new MessageResponse("Error: Event is already saved."));
@@ -162,6 +293,8 @@ public class EventController {
         savedEvent.setUser(currentUser);
         savedEvent.setEvent(event);
         savedEventRepository.save(savedEvent);
+        catalogVersionService.bumpUser(currentUser.getId());
+        changeLogService.onSavedChanged(currentUser.getId(), id, true);
 
         return ResponseEntity.ok(new MessageResponse("Event saved successfully!"));
     }
@@ -169,78 +302,134 @@ public class EventController {
     /** DELETE /api/events/{id}/unsave (Authenticated users) */
     @DeleteMapping("/{id}/unsave")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> unsaveEvent(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Event not found."));
+    public ResponseEntity<?> unsaveEvent(@PathVariable Long id, @CurrentUser User currentUser) {
+        Event event = getEventReference(id);
 
         SavedEvent savedEvent = savedEventRepository.findByUserAndEvent(currentUser, event)
                 .orElseThrow(() -> new RuntimeException("Error: Event is not saved."));
 
         savedEventRepository.delete(savedEvent);
+        catalogVersionService.bumpUser(currentUser.getId());
+        changeLogService.onSavedChanged(currentUser.getId(), id, false);
         return ResponseEntity.ok(new MessageResponse("Event unsaved successfully!"));
     }
 
-    /** POST /api/events/{id}/register (Authenticated users) */
+    /** POST /api/events/{id}/register (Authenticated users) - confirms a seat or joins the waitlist */
     @PostMapping("/{id}/register")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> registerForEvent(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Event not found."));
+    public ResponseEntity<?> registerForEvent(@PathVariable Long id, @CurrentUser User currentUser) {
+        Event event = getEventReference(id);
 
         if (eventRegistrationRepository.existsByUserAndEvent(currentUser, event)) {
             return ResponseEntity.badRequest().body(new MessageResponse("Error: Already registered for this event."));
         }
 
-        EventRegistration registration = new EventRegistration();
-        registration.setUser(currentUser);
-        registration.setEvent(event);
-        eventRegistrationRepository.save(registration);
+        EventRegistration registration = registrationService.register(event, currentUser);
+        if (registration == null) { // lost a double-tap race to our own earlier request
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Already registered for this event."));
+        }
+        if (!registration.isConfirmed()) {
+            long position = registrationService.waitlistPosition(registration);
+            return ResponseEntity.ok(new MessageResponse("Event is full. You are #" + position + " on the waitlist."));
+        }
 
         return ResponseEntity.ok(new MessageResponse("Registered for event successfully!"));
     }
 
-    /** GET /api/events/saved (Authenticated users) */
+    /** DELETE /api/events/{id}/register (Authenticated users) - frees the seat for the next waitlisted user */
+    @DeleteMapping("/{id}/register")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> cancelRegistration(@PathVariable Long id, @CurrentUser User currentUser) {
+        Event event = getEventReference(id);
+
+        if (!registrationService.cancel(event, currentUser)) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Not registered for this event."));
+        }
+        return ResponseEntity.ok(new MessageResponse("Registration cancelled successfully!"));
+    }
+
+    /** GET /api/events/saved?cursor=&limit= (Authenticated users, most recently saved first) */
     @GetMapping("/saved")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<Event>> getSavedEvents() {
-        User currentUser = getCurrentUser();
-        List<SavedEvent> savedEvents = savedEventRepository.findByUser(currentUser);
-        
-        List<Event> events = savedEvents.stream()
-                                        .map(SavedEvent::getEvent)
-                                        .collect(Collectors.toList());
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventDetailsResponse>> getSavedEvents(
+            @CurrentUser Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        Long afterId = KeysetPage.decode(cursor);
+
+        // Rows are [savedEventId, eventId]; the cursor is the saved-event id
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Object[]> saved = afterId == null
+                ? savedEventRepository.findRecentEventIdsByUserId(currentUserId, fetch)
+                : savedEventRepository.findRecentEventIdsByUserIdBefore(currentUserId, afterId, fetch);
+
+        ViewerState viewer = viewerStateService.load(currentUserId);
+        return KeysetPage.of(saved, pageSize, row -> (Long) row[0])
+                .map(page -> viewer.decorateSnapshots(eventCatalogCache.getAll(page.stream().map(row -> (Long) row[1]).toList())))
+                .toResponse();
     }
 
-    /** GET /api/events/search (Public) */
+    /** GET /api/events/search?q=&page=&size= (Public) - BM25-ranked, served from the in-memory index */
     @GetMapping("/search")
-    public ResponseEntity<List<Event>> searchEvents(@RequestParam String q) {
+    public ResponseEntity<List<EventSearchResult>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         if (q == null || q.trim().isEmpty()) {
             return ResponseEntity.ok(Collections.emptyList());
         }
-        List<Event> events = eventRepository.findByTitleContainingIgnoreCase(q);
-        return ResponseEntity.ok(events);
+        int pageSize = Math.max(1, Math.min(size, 100));
+        int offset = Math.min(Math.max(0, page), EventSearchIndex.MAX_RESULTS) * pageSize;
+        return ResponseEntity.ok(eventSearchIndex.search(q, offset, pageSize));
+    }
+
+    /** GET /api/events/suggest?prefix=&limit= (Typeahead) - answered from the in-memory trie, no database access */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        int size = Math.max(1, Math.min(limit, SuggestionIndex.TOP_N));
+        return ResponseEntity.ok(suggestionIndex.suggest(prefix, size));
     }
 
     /** DELETE /api/events/{id} (Owner or Super Admin only) */
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> deleteEvent(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
+    public ResponseEntity<?> deleteEvent(@PathVariable Long id, @CurrentUser UserDetailsImpl principal) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Error: Event not found."));
 
-        boolean isOwner = event.getPostedBy().getId().equals(currentUser.getId());
-        boolean isSuperAdmin = currentUser.getRoles().stream().anyMatch(r -> r.getName() == ERole.ROLE_SUPER_ADMIN);
+        boolean isOwner = event.getPostedBy().getId().equals(principal.getId());
+        boolean isSuperAdmin = principal.isSuperAdmin();
 
         if (!isOwner && !isSuperAdmin) {
              return ResponseEntity.status(HttpStatus.FORBIDDEN)
                              .body(new MessageResponse("Error: You are not authorized to delete this event."));
         }
 
-        eventRepository.delete(event);
+        Set<Long> interestedUsers = eventStreamService.interestedUsers(event.getId()); // gone once the event is
+        List<String> imageUrls = new ArrayList<>(event.getImageUrls());
+        // Saves and registrations reference the event without a cascade; the derived state below
+        // is only touched once all three are gone, so a failed delete leaves nothing half-removed.
+        transactionTemplate.executeWithoutResult(status -> {
+            savedEventRepository.deleteByEventId(event.getId());
+            eventRegistrationRepository.deleteByEventId(event.getId());
+            eventRepository.delete(event);
+        });
+        timelineService.onEventDeleted(event.getId());
+        eventCatalogCache.invalidate(event.getId());
+        eventSearchIndex.remove(event.getId());
+        suggestionIndex.remove(event.getId());
+        registrationCountService.onEventDeleted(event.getId());
+        registrationService.onEventDeleted(event.getId());
+        imageStorage.release(imageUrls);
+        catalogVersionService.bumpGlobal();
+        eventStreamService.onEventDeleted(event.getId(), interestedUsers);
+        changeLogService.onEventDeleted(event.getId());
         
         return ResponseEntity.ok(new MessageResponse("Event deleted successfully!"));
     }
@@ -250,52 +439,103 @@ public class EventController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
     public ResponseEntity<?> updateEvent(
             @PathVariable Long id,
+            @CurrentUser UserDetailsImpl principal,
             @RequestParam("event") String eventJson,
             @RequestParam(value = "files", required = false) List<MultipartFile> files
     ) throws IOException {
         
-        User currentUser = getCurrentUser();
         Event eventToUpdate = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Error: Event not found."));
 
-        boolean isOwner = eventToUpdate.getPostedBy().getId().equals(currentUser.getId());
-        boolean isSuperAdmin = currentUser.getRoles().stream().anyMatch(r -> r.getName() == ERole.ROLE_SUPER_ADMIN);
+        boolean isOwner = eventToUpdate.getPostedBy().getId().equals(principal.getId());
+        boolean isSuperAdmin = principal.isSuperAdmin();
 
         if (!isOwner && !isSuperAdmin) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                              .body(new MessageResponse("Error: You are not authorized to edit this event."));
         }
         
-        Event updatedData = objectMapper.readValue(eventJson, Event.class);
+        JsonNode fields = objectMapper.readTree(eventJson);
+        Event updatedData = objectMapper.treeToValue(fields, Event.class);
+        validateCapacity(updatedData.getCapacity());
+        // The app's edit screen does not send capacity; only an explicit value (null = unlimited) changes it
+        boolean capacitySent = fields.has("capacity");
 
         eventToUpdate.setTitle(updatedData.getTitle());
         eventToUpdate.setDescription(updatedData.getDescription());
         eventToUpdate.setEventDate(updatedData.getEventDate());
         eventToUpdate.setEventTime(updatedData.getEventTime());
         eventToUpdate.setLocation(updatedData.getLocation());
+        if (capacitySent) {
+            eventToUpdate.setCapacity(updatedData.getCapacity());
+        }
+        eventToUpdate.setStartsAt(updatedData.getStartsAt()); // null: re-derived from the date and time strings
+        eventToUpdate.setEndsAt(updatedData.getEndsAt());
+        eventScheduleService.applySchedule(eventToUpdate);
 
          // --- UPDATE CLUB LOGIC ---
          Club club = clubRepository.findByName(updatedData.getClub().getName())
             .orElseGet(() -> {
                 Club newClub = new Club();
                 newClub.setName(updatedData.getClub().getName());
-                newClub.setAdmin(getCurrentUser()); 
+                newClub.setAdmin(userRepository.getReferenceById(principal.getId()));
                 return clubRepository.save(newClub);
             });
         eventToUpdate.setClub(club);
         // --- END UPDATE ---
 
-        List<String> imageUrls = new ArrayList<>(eventToUpdate.getImageUrls());
-        if (files != null && !files.isEmpty()) {
+        // Clients send back the images they kept (as the variant URLs they were shown); omitted means keep all
+        List<String> currentUrls = eventToUpdate.getImageUrls();
+        List<String> imageUrls = new ArrayList<>(currentUrls);
+        if (updatedData.getImageUrls() != null) {
+            Set<String> kept = updatedData.getImageUrls().stream().map(ImageVariant::originalOf).collect(Collectors.toSet());
+            imageUrls.retainAll(kept);
+        }
+        List<String> removedUrls = new ArrayList<>(currentUrls);
+        removedUrls.removeAll(imageUrls);
+        List<String> uploadedUrls = storeUploads(files);
+        imageUrls.addAll(uploadedUrls);
+        eventToUpdate.setImageUrls(imageUrls);
+
+        Event savedEvent;
+        try {
+            savedEvent = eventRepository.save(eventToUpdate);
+        } catch (RuntimeException e) {
+            imageStorage.release(uploadedUrls); // no row references them
+            throw e;
+        }
+        eventCatalogCache.invalidate(savedEvent.getId());
+        imageStorage.release(removedUrls);
+        timelineService.onEventUpdated(savedEvent);
+        eventSearchIndex.upsert(savedEvent);
+        suggestionIndex.addClub(club);
+        suggestionIndex.upsert(savedEvent);
+        if (capacitySent) {
+            registrationService.onCapacityChanged(savedEvent.getId(), savedEvent.getCapacity());
+        }
+        catalogVersionService.bumpGlobal();
+        eventStreamService.onEventUpdated(savedEvent.getId());
+        changeLogService.onEventChanged(savedEvent.getId());
+        return ResponseEntity.ok(viewerStateService.load(principal.getId()).decorate(savedEvent));
+    }
+
+    /**
+     * Stores every non-empty upload. Each stored URL holds a reference from the moment it is written,
+     * so if a later file is rejected the ones already stored are released before the error propagates.
+     */
+    private List<String> storeUploads(List<MultipartFile> files) throws IOException {
+        List<String> urls = new ArrayList<>();
+        if (files == null) return urls;
+        try {
             for (MultipartFile file : files) {
                 if (!file.isEmpty()) {
-                    imageUrls.add(imageUploadService.store(file));
+                    urls.add(imageStorage.store(file));
                 }
             }
+        } catch (IOException | RuntimeException e) {
+            imageStorage.release(urls);
+            throw e;
         }
-        eventToUpdate.setImageUrls(imageUrls);
-
-        Event savedEvent = eventRepository.save(eventToUpdate);
-        return ResponseEntity.ok(savedEvent);
+        return urls;
     }
-}
\ No newline at end of file
+}
@@ -6,13 +6,14 @@ import com.convergex.backend.model.UserFollowsClub;
 import com.convergex.backend.payload.MessageResponse;
 import com.convergex.backend.repository.ClubRepository;
 import com.convergex.backend.repository.UserFollowsClubRepository;
-import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.service.CatalogVersionService;
+import com.convergex.backend.service.TimelineService;
+import com.convergex.backend.service.stream.EventStreamService;
+import com.convergex.backend.service.sync.ChangeLogService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,22 +21,25 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class FollowController {
 
-    @Autowired private UserRepository userRepository;
     @Autowired private ClubRepository clubRepository;
     @Autowired private UserFollowsClubRepository userFollowsClubRepository;
+    @Autowired private TimelineService timelineService;
+    @Autowired private CatalogVersionService catalogVersionService;
+    @Autowired private EventStreamService eventStreamService;
+    @Autowired private ChangeLogService changeLogService;
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-               .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + auth.getName()));
+    /** Existence check plus a lazy reference; following only needs the club's foreign key. */
+    private Club getClubReference(Long clubId) {
+        if (!clubRepository.existsById(clubId)) {
+            throw new RuntimeException("Club not found");
+        }
+        return clubRepository.getReferenceById(clubId);
     }
 
     @PostMapping("/{clubId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> followClub(@PathVariable Long clubId) {
-        User user = getCurrentUser();
-        Club club = clubRepository.findById(clubId)
-                .orElseThrow(() -> new RuntimeException("Club not found"));
+    public ResponseEntity<?> followClub(@PathVariable Long clubId, @CurrentUser User user) {
+        Club club = getClubReference(clubId);
 
         if (userFollowsClubRepository.existsByUserAndClub(user, club)) {
             return ResponseEntity.badRequest().body(new MessageResponse("Already following this club"));
@@ -45,21 +49,27 @@ public class FollowController {
         follow.setUser(user);
         follow.setClub(club);
         userFollowsClubRepository.save(follow);
+        timelineService.onFollow(user.getId(), club.getId());
+        catalogVersionService.bumpUser(user.getId());
+        eventStreamService.onFollowChanged(user.getId(), club.getId(), true);
+        changeLogService.onFollowChanged(user.getId(), club.getId(), true);
 
         return ResponseEntity.ok(new MessageResponse("Club followed successfully"));
     }
 
     @DeleteMapping("/{clubId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> unfollowClub(@PathVariable Long clubId) {
-        User user = getCurrentUser();
-        Club club = clubRepository.findById(clubId)
-                .orElseThrow(() -> new RuntimeException("Club not found"));
+    public ResponseEntity<?> unfollowClub(@PathVariable Long clubId, @CurrentUser User user) {
+        Club club = getClubReference(clubId);
 
         UserFollowsClub follow = userFollowsClubRepository.findByUserAndClub(user, club)
                 .orElseThrow(() -> new RuntimeException("Not following this club"));
 
         userFollowsClubRepository.delete(follow);
+        timelineService.onUnfollow(user.getId(), club.getId());
+        catalogVersionService.bumpUser(user.getId());
+        eventStreamService.onFollowChanged(user.getId(), club.getId(), false);
+        changeLogService.onFollowChanged(user.getId(), club.getId(), false);
 
         return ResponseEntity.ok(new MessageResponse("Club unfollowed successfully"));
     }
@@ -1,17 +1,22 @@
 package com.convergex.backend.controller;
-import com.convergex.backend.model.*; import com.convergex.backend.repository.*;
-import org.springframework.beans.factory.annotation.Autowired; import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize; import org.springframework.security.core.*;
-import org.springframework.security.core.context.SecurityContextHolder; import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.web.bind.annotation.*; import java.util.List; import java.util.stream.Collectors;
+import com.convergex.backend.model.*; import com.convergex.backend.payload.EventDetailsResponse; import com.convergex.backend.payload.KeysetPage; import com.convergex.backend.repository.*; import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.service.ViewerState; import com.convergex.backend.service.ViewerStateService; import com.convergex.backend.service.catalog.EventCatalogCache;
+import org.springframework.beans.factory.annotation.Autowired; import org.springframework.data.domain.PageRequest; import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*; import java.util.List;
 @RestController @RequestMapping("/api/registrations") @CrossOrigin(origins = "*")
 public class RegistrationController {
-    @Autowired private EventRegistrationRepository registrationRepository; @Autowired private UserRepository userRepository;
-    private User getCurrentUser() { Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName()).orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + auth.getName())); }
+    @Autowired private EventRegistrationRepository registrationRepository;
+    @Autowired private ViewerStateService viewerStateService;
+    @Autowired private EventCatalogCache eventCatalogCache;
 
+    /** GET /api/registrations/my-events?cursor=&limit= (confirmed seats only, most recently registered first) */
     @GetMapping("/my-events") @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<Event>> getMyRegisteredEvents() { User u = getCurrentUser();
-        List<Event> events = registrationRepository.findByUser(u).stream().map(EventRegistration::getEvent).collect(Collectors.toList());
-        return ResponseEntity.ok(events); }
-}
\ No newline at end of file
+    public ResponseEntity<List<EventDetailsResponse>> getMyRegisteredEvents(@CurrentUser Long userId, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        int pageSize = KeysetPage.clampLimit(limit); Long afterId = KeysetPage.decode(cursor); PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Object[]> rows = afterId == null ? registrationRepository.findRecentEventIdsByUserId(userId, RegistrationStatus.CONFIRMED, fetch) // [registrationId, eventId]
+                : registrationRepository.findRecentEventIdsByUserIdBefore(userId, RegistrationStatus.CONFIRMED, afterId, fetch);
+        ViewerState viewer = viewerStateService.load(userId);
+        return KeysetPage.of(rows, pageSize, row -> (Long) row[0])
+                .map(page -> viewer.decorateSnapshots(eventCatalogCache.getAll(page.stream().map(row -> (Long) row[1]).toList()))).toResponse(); }
+}
@@ -0,0 +1,28 @@
+package com.convergex.backend.controller;
+
+import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.service.stream.EventStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class StreamController {
+
+    @Autowired private EventStreamService eventStreamService;
+
+    /**
+     * Server-Sent Events for the current user: "event-created" for followed clubs, "event-updated" and
+     * "event-deleted" for saved or registered events, "follow-changed" from the user's other devices and
+     * "seats" for seat counts. Clients reconnect and refetch on drop; missed messages are not replayed.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(@CurrentUser Long currentUserId) {
+        return eventStreamService.connect(currentUserId);
+    }
+}
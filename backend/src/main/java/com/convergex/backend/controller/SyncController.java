@@ -0,0 +1,31 @@
+package com.convergex.backend.controller;
+
+import com.convergex.backend.payload.SyncResponse;
+import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.service.sync.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    @Autowired private SyncService syncService;
+
+    /**
+     * GET /api/sync?since=&limit= (Authenticated users) - changes since the token from the previous
+     * call, or a full snapshot when there is no usable token. Call again while hasMore is set.
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SyncResponse> sync(
+            @CurrentUser Long currentUserId,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(syncService.sync(currentUserId, since, limit));
+    }
+}
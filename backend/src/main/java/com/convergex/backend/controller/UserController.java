@@ -1,25 +1,25 @@
 package com.convergex.backend.controller;
 
-import com.convergex.backend.model.Event; // Import Event
 import com.convergex.backend.model.User;
 import com.convergex.backend.payload.AdminEventStatsDto; // Import DTO
 import com.convergex.backend.payload.MessageResponse;
 import com.convergex.backend.payload.UserProfileResponse;
-import com.convergex.backend.repository.EventRegistrationRepository; // Import
 import com.convergex.backend.repository.EventRepository; // Import
 import com.convergex.backend.repository.UserRepository;
-import com.convergex.backend.service.ImageUploadService;
+import com.convergex.backend.security.CurrentUser;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.security.services.PrincipalCache;
+import com.convergex.backend.service.RegistrationCountService;
+import com.convergex.backend.service.images.ImageStorage;
+import com.convergex.backend.service.images.ImageVariant;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List; // Import
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -27,26 +27,27 @@ import java.util.stream.Collectors;
 public class UserController {
 
     @Autowired private UserRepository userRepository;
-    @Autowired private ImageUploadService imageUploadService; // Inject
+    @Autowired private ImageStorage imageStorage; // Inject
     @Autowired private EventRepository eventRepository; // Inject
-    @Autowired private EventRegistrationRepository registrationRepository;
+    @Autowired private RegistrationCountService registrationCountService;
+    @Autowired private PrincipalCache principalCache;
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-               .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + auth.getName()));
+    /** Loads the full user row for endpoints that read or edit the profile itself. */
+    private User loadUser(UserDetailsImpl principal) {
+        return userRepository.findById(principal.getId())
+               .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + principal.getEmail()));
     }
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<UserProfileResponse> getMyProfile() {
-        return ResponseEntity.ok(new UserProfileResponse(getCurrentUser()));
+    public ResponseEntity<UserProfileResponse> getMyProfile(@CurrentUser UserDetailsImpl principal) {
+        return ResponseEntity.ok(new UserProfileResponse(loadUser(principal)));
     }
 
     @PutMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> updateMyProfile(@RequestBody UserProfileResponse profileUpdate) {
-        User currentUser = getCurrentUser();
+    public ResponseEntity<?> updateMyProfile(@CurrentUser UserDetailsImpl principal, @RequestBody UserProfileResponse profileUpdate) {
+        User currentUser = loadUser(principal);
         
         currentUser.setName(profileUpdate.getName());
         currentUser.setPhoneNumber(profileUpdate.getPhoneNumber());
@@ -56,6 +57,7 @@ public class UserController {
         // Note: profilePictureUrl is handled by its own endpoint
 
         userRepository.save(currentUser);
+        principalCache.invalidate(currentUser.getEmail());
         
         return ResponseEntity.ok(new MessageResponse("Profile updated successfully!"));
     }
@@ -63,36 +65,39 @@ public class UserController {
     // --- NEW ENDPOINT: Upload Profile Picture ---
     @PostMapping(value = "/me/picture", consumes = {"multipart/form-data"})
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> uploadProfilePicture(@RequestParam("file") MultipartFile file) throws IOException {
-        User currentUser = getCurrentUser();
+    public ResponseEntity<?> uploadProfilePicture(@CurrentUser UserDetailsImpl principal, @RequestParam("file") MultipartFile file) throws IOException {
+        User currentUser = loadUser(principal);
         
         // Store the image and get its URL
-        String fileUrl = imageUploadService.store(file);
-        
+        String fileUrl = imageStorage.store(file);
+        String previousUrl = currentUser.getProfilePictureUrl();
         
         // Save the new URL to the user
         currentUser.setProfilePictureUrl(fileUrl);
-        userRepository.save(currentUser);
+        try {
+            userRepository.save(currentUser);
+        } catch (RuntimeException e) {
+            imageStorage.release(fileUrl); // nothing references it
+            throw e;
+        }
+        principalCache.invalidate(currentUser.getEmail());
+        imageStorage.release(previousUrl);
         
-        // Return the new URL in the message field
-        return ResponseEntity.ok(new MessageResponse(fileUrl));
+        // Return the new (resized variant) URL in the message field
+        return ResponseEntity.ok(new MessageResponse(ImageVariant.CARD.urlFor(fileUrl)));
     }
 
     @GetMapping("/me/my-events")
     @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
-    public ResponseEntity<List<AdminEventStatsDto>> getMyPostedEvents() {
-        User currentUser = getCurrentUser();
+    public ResponseEntity<List<AdminEventStatsDto>> getMyPostedEvents(@CurrentUser Long currentUserId) {
         
-        // 1. Find all events posted by this user
-        List<Event> myEvents = eventRepository.findByPostedBy(currentUser);
+        // 1. One projection query for all events posted by this user
+        List<AdminEventStatsDto> eventStats = eventRepository.findStatsRowsByPostedById(currentUserId);
         
-        // 2. For each event, get the registration count
-        List<AdminEventStatsDto> eventStats = myEvents.stream()
-            .map(event -> new AdminEventStatsDto(
-                event,
-                registrationRepository.countByEvent(event) // Get count
-            ))
-            .collect(Collectors.toList());
+        // 2. Registration counts are maintained in memory, so no COUNT per event
+        for (AdminEventStatsDto stats : eventStats) {
+            stats.setRegistrationCount(registrationCountService.get(stats.getId()));
+        }
             
         return ResponseEntity.ok(eventStats);
     }
@@ -0,0 +1,9 @@
+package com.convergex.backend.model;
+
+public enum ChangeKind {
+    BASELINE,
+    EVENT,
+    SAVED,
+    REGISTRATION,
+    FOLLOW
+}
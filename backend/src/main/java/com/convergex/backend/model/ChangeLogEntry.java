@@ -0,0 +1,60 @@
+package com.convergex.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the sync change log: "subject X of this kind changed", optionally scoped to one
+ * user. Ids only ever grow, so a client's sync token is simply the last id it has applied.
+ * {@code deleted} marks a tombstone (event deleted, unsaved, unregistered, unfollowed).
+ *
+ * The single BASELINE row identifies this log and carries the oldest token that can still be
+ * answered with a delta in {@code subjectId}; compaction moves it forward.
+ */
+@Entity
+@Table(name = "change_log",
+       indexes = {
+           @Index(name = "idx_change_log_created", columnList = "created_at")
+       })
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeKind kind;
+
+    // Null for changes everyone sees (events)
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Event id, or club id for FOLLOW
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    private boolean deleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeLogEntry() {}
+
+    public ChangeLogEntry(ChangeKind kind, Long userId, Long subjectId, boolean deleted) {
+        this.kind = kind;
+        this.userId = userId;
+        this.subjectId = subjectId;
+        this.deleted = deleted;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public ChangeKind getKind() { return kind; }
+    public Long getUserId() { return userId; }
+    public Long getSubjectId() { return subjectId; }
+    public void setSubjectId(Long subjectId) { this.subjectId = subjectId; }
+    public boolean isDeleted() { return deleted; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -19,11 +19,16 @@ public class Club {
     private String clubLogoUrl;
 
     // A club is managed by one Admin
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "admin_user_id", referencedColumnName = "id")
     @JsonIgnore // Prevent loops
     private User admin;
 
+    // Feed delivery mode, switched by TimelineService when the follower count crosses its thresholds
+    @JsonIgnore
+    @Column(name = "fanout_on_read", nullable = false)
+    private boolean fanoutOnRead;
+
     // Getters & Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -35,4 +40,6 @@ public class Club {
     public void setClubLogoUrl(String clubLogoUrl) { this.clubLogoUrl = clubLogoUrl; }
     public User getAdmin() { return admin; }
     public void setAdmin(User admin) { this.admin = admin; }
+    public boolean isFanoutOnRead() { return fanoutOnRead; }
+    public void setFanoutOnRead(boolean fanoutOnRead) { this.fanoutOnRead = fanoutOnRead; }
 }
\ No newline at end of file
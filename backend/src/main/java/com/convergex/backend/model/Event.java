@@ -1,9 +1,14 @@
 package com.convergex.backend.model;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_starts_at", columnList = "starts_at"),
+        @Index(name = "idx_event_club_starts_at", columnList = "club_id, starts_at")
+})
 public class Event {
 
     @Id
@@ -15,21 +20,31 @@ public class Event {
     private String eventDate;
     private String eventTime;
     private String location;
+
+    // Typed schedule behind the display strings above; see EventScheduleService. Null only if the date could not be parsed.
+    @Column(name = "starts_at")
+    private Instant startsAt;
+    @Column(name = "ends_at")
+    private Instant endsAt;
+
+    // Maximum confirmed registrations; null means unlimited. Extra registrations join the waitlist.
+    private Integer capacity;
     
     // --- REMOVED ---
     // private String clubName;
 
     // --- NEW: Link to Club entity ---
-    @ManyToOne(fetch = FetchType.EAGER) // Use EAGER to easily get club info
+    // LAZY: reads go through EventCatalogCache projections; writes only need the foreign key
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "club_id", nullable = false)
     private Club club;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY) // batch-fetched, see hibernate.default_batch_fetch_size
     @CollectionTable(name = "event_image_urls", joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "image_url")
     private List<String> imageUrls;
 
-    @ManyToOne(fetch = FetchType.EAGER) // Use EAGER
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User postedBy;
 
@@ -53,6 +68,12 @@ public class Event {
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
+    public Instant getStartsAt() { return startsAt; }
+    public void setStartsAt(Instant startsAt) { this.startsAt = startsAt; }
+    public Instant getEndsAt() { return endsAt; }
+    public void setEndsAt(Instant endsAt) { this.endsAt = endsAt; }
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
     public List<String> getImageUrls() { return imageUrls; }
     public void setImageUrls(List<String> imageUrls) { this.imageUrls = imageUrls; }
 }
\ No newline at end of file
@@ -17,11 +17,15 @@ public class EventRegistration {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // --- FIX: Change LAZY to EAGER ---
-    @ManyToOne(fetch = FetchType.EAGER) 
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
+    // Waitlisted rows are promoted oldest first (by id) when a confirmed seat frees up
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private RegistrationStatus status = RegistrationStatus.CONFIRMED;
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -29,4 +33,7 @@ public class EventRegistration {
     public void setUser(User user) { this.user = user; }
     public Event getEvent() { return event; }
     public void setEvent(Event event) { this.event = event; }
+    public RegistrationStatus getStatus() { return status; }
+    public void setStatus(RegistrationStatus status) { this.status = status; }
+    public boolean isConfirmed() { return status == RegistrationStatus.CONFIRMED; }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.convergex.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One stored image file, keyed by the SHA-256 of its bytes. {@code refCount} counts the event
+ * images and profile pictures that point at it; blobs that stay at zero past a grace period are
+ * deleted from disk by the storage GC.
+ */
+@Entity
+@Table(name = "image_blobs",
+       indexes = {
+           @Index(name = "idx_image_blobs_gc", columnList = "ref_count, released_at")
+       })
+public class ImageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    // Relative to app.upload.dir, e.g. "ab/cd/abcd...ef.png"
+    @Column(nullable = false)
+    private String path;
+
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // When the count last dropped to zero; the GC grace period starts here
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    public ImageBlob() {}
+
+    public ImageBlob(String hash, String path, long size) {
+        this.hash = hash;
+        this.path = path;
+        this.size = size;
+        this.refCount = 1;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public String getHash() { return hash; }
+    public String getPath() { return path; }
+    public long getSize() { return size; }
+    public int getRefCount() { return refCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getReleasedAt() { return releasedAt; }
+}
@@ -0,0 +1,6 @@
+package com.convergex.backend.model;
+
+public enum RegistrationStatus {
+    CONFIRMED,
+    WAITLISTED
+}
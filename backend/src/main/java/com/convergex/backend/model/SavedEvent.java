@@ -17,8 +17,7 @@ public class SavedEvent {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // --- FIX: Change LAZY to EAGER ---
-    @ManyToOne(fetch = FetchType.EAGER) 
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
@@ -0,0 +1,51 @@
+package com.convergex.backend.model;
+
+import jakarta.persistence.*;
+
+/**
+ * One row of a user's materialized feed: "event X from club Y belongs in user Z's timeline".
+ * Plain id columns (no foreign keys) so that deleting an event or unfollowing a club
+ * can prune rows in bulk without loading entities.
+ */
+@Entity
+@Table(name = "user_timeline",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"user_id", "event_id"})
+       },
+       indexes = {
+           @Index(name = "idx_timeline_event", columnList = "event_id"),
+           @Index(name = "idx_timeline_user_club", columnList = "user_id, club_id")
+       })
+public class TimelineEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    public TimelineEntry() {}
+
+    public TimelineEntry(Long userId, Long eventId, Long clubId) {
+        this.userId = userId;
+        this.eventId = eventId;
+        this.clubId = clubId;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+    public Long getClubId() { return clubId; }
+    public void setClubId(Long clubId) { this.clubId = clubId; }
+}
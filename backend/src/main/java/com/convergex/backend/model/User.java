@@ -46,7 +46,7 @@ public class User {
     @Column(name = "interest")
     private List<String> interests;
 
-    @ManyToMany(fetch = FetchType.EAGER) // Changed to EAGER for easier role access
+    @ManyToMany(fetch = FetchType.LAZY) // UserRepository.findByEmail fetches them with the user
     @JoinTable(name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
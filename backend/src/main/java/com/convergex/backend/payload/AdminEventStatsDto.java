@@ -16,6 +16,15 @@ public class AdminEventStatsDto {
         this.registrationCount = registrationCount;
     }
 
+    /** Used by the JPQL projection in EventRepository; the count is filled in afterwards. */
+    public AdminEventStatsDto(Long id, String title, String eventDate) {
+        this.id = id;
+        this.title = title;
+        this.eventDate = eventDate;
+    }
+
+    public void setRegistrationCount(long registrationCount) { this.registrationCount = registrationCount; }
+
     // --- Getters ---
     public Long getId() { return id; }
     public String getTitle() { return title; }
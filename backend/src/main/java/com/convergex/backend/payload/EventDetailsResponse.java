@@ -1,6 +1,9 @@
 package com.convergex.backend.payload;
 
 import com.convergex.backend.model.Event;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import com.convergex.backend.service.images.ImageVariant;
+import java.time.Instant;
 import java.util.List;
 
 public class EventDetailsResponse {
@@ -10,6 +13,8 @@ public class EventDetailsResponse {
     private String description;
     private String eventDate;
     private String eventTime;
+    private Instant startsAt;   // typed schedule, null if the date string could not be parsed
+    private Instant endsAt;
     private String location;
     
     // --- NEW CLUB FIELDS ---
@@ -18,7 +23,8 @@ public class EventDetailsResponse {
     private String clubLogoUrl;
     // --- END NEW ---
 
-    private List<String> imageUrls;
+    private List<String> imageUrls;          // FULL variants; originals are never sent to clients
+    private List<ImageVariants> imageVariants;
     private boolean isSaved;
     private boolean isRegistered;
     private Long postedById;
@@ -26,30 +32,34 @@ public class EventDetailsResponse {
     // --- NEW FIELD ---
     private boolean isFollowed; // Is the current user following this club?
 
+    // --- Capacity ---
+    private Integer capacity;     // null = unlimited
+    private Integer seatsLeft;    // null = unlimited
+    private boolean isWaitlisted;
+
     public EventDetailsResponse(Event event, boolean isSaved, boolean isRegistered, boolean isFollowed) {
-        this.id = event.getId();
-        this.title = event.getTitle();
-        this.description = event.getDescription();
-        this.eventDate = event.getEventDate();
-        this.eventTime = event.getEventTime();
-        this.location = event.getLocation();
-        
-        // --- UPDATED ---
-        if (event.getClub() != null) {
-            this.clubId = event.getClub().getId();
-            this.clubName = event.getClub().getName();
-            this.clubLogoUrl = event.getClub().getClubLogoUrl();
-        }
-        // --- END UPDATE ---
-        
-        this.imageUrls = event.getImageUrls();
+        this(EventSnapshot.of(event), isSaved, isRegistered, isFollowed);
+    }
+
+    public EventDetailsResponse(EventSnapshot event, boolean isSaved, boolean isRegistered, boolean isFollowed) {
+        this.id = event.id();
+        this.title = event.title();
+        this.description = event.description();
+        this.eventDate = event.eventDate();
+        this.eventTime = event.eventTime();
+        this.startsAt = event.startsAt();
+        this.endsAt = event.endsAt();
+        this.location = event.location();
+        this.clubId = event.clubId();
+        this.clubName = event.clubName();
+        this.clubLogoUrl = event.clubLogoUrl();
+        this.imageUrls = ImageVariant.FULL.urlsFor(event.imageUrls());
+        this.imageVariants = ImageVariants.of(event.imageUrls());
         this.isSaved = isSaved;
         this.isRegistered = isRegistered;
-        this.isFollowed = isFollowed; // Set new field
-        
-        if (event.getPostedBy() != null) {
-            this.postedById = event.getPostedBy().getId();
-        }
+        this.isFollowed = isFollowed;
+        this.capacity = event.capacity();
+        this.postedById = event.postedById();
     }
 
     // --- Add Getters/Setters for new fields ---
@@ -61,6 +71,12 @@ public class EventDetailsResponse {
     public void setClubLogoUrl(String clubLogoUrl) { this.clubLogoUrl = clubLogoUrl; }
     public boolean isFollowed() { return isFollowed; }
     public void setFollowed(boolean followed) { isFollowed = followed; }
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+    public Integer getSeatsLeft() { return seatsLeft; }
+    public void setSeatsLeft(Integer seatsLeft) { this.seatsLeft = seatsLeft; }
+    public boolean isWaitlisted() { return isWaitlisted; }
+    public void setWaitlisted(boolean waitlisted) { isWaitlisted = waitlisted; }
 
     // --- All other getters and setters ---
     public Long getId() { return id; }
@@ -73,10 +89,16 @@ public class EventDetailsResponse {
     public void setEventDate(String eventDate) { this.eventDate = eventDate; }
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
+    public Instant getStartsAt() { return startsAt; }
+    public void setStartsAt(Instant startsAt) { this.startsAt = startsAt; }
+    public Instant getEndsAt() { return endsAt; }
+    public void setEndsAt(Instant endsAt) { this.endsAt = endsAt; }
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
     public List<String> getImageUrls() { return imageUrls; }
     public void setImageUrls(List<String> imageUrls) { this.imageUrls = imageUrls; }
+    public List<ImageVariants> getImageVariants() { return imageVariants; }
+    public void setImageVariants(List<ImageVariants> imageVariants) { this.imageVariants = imageVariants; }
     public boolean isSaved() { return isSaved; }
     public void setSaved(boolean saved) { isSaved = saved; }
     public boolean isRegistered() { return isRegistered; }
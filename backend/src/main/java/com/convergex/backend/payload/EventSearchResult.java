@@ -0,0 +1,41 @@
+package com.convergex.backend.payload;
+
+import java.util.List;
+
+/** Lightweight search hit: just what a result card shows, plus the relevance score. */
+public class EventSearchResult {
+
+    private final Long id;
+    private final String title;
+    private final String eventDate;
+    private final String eventTime;
+    private final String location;
+    private final Long clubId;
+    private final String clubName;
+    private final List<String> imageUrls; // cover image only, thumbnail variant
+    private final double score;
+
+    public EventSearchResult(Long id, String title, String eventDate, String eventTime, String location,
+                             Long clubId, String clubName, List<String> imageUrls, double score) {
+        this.id = id;
+        this.title = title;
+        this.eventDate = eventDate;
+        this.eventTime = eventTime;
+        this.location = location;
+        this.clubId = clubId;
+        this.clubName = clubName;
+        this.imageUrls = imageUrls;
+        this.score = score;
+    }
+
+    // --- Getters ---
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getEventDate() { return eventDate; }
+    public String getEventTime() { return eventTime; }
+    public String getLocation() { return location; }
+    public Long getClubId() { return clubId; }
+    public String getClubName() { return clubName; }
+    public List<String> getImageUrls() { return imageUrls; }
+    public double getScore() { return score; }
+}
@@ -0,0 +1,29 @@
+package com.convergex.backend.payload;
+
+import com.convergex.backend.service.images.ImageVariant;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** URLs of the resized renditions of one uploaded image, smallest first. */
+public class ImageVariants {
+
+    private final String thumb;
+    private final String card;
+    private final String full;
+
+    public ImageVariants(String originalUrl) {
+        this.thumb = ImageVariant.THUMB.urlFor(originalUrl);
+        this.card = ImageVariant.CARD.urlFor(originalUrl);
+        this.full = ImageVariant.FULL.urlFor(originalUrl);
+    }
+
+    public static List<ImageVariants> of(List<String> originalUrls) {
+        return originalUrls == null ? null : originalUrls.stream().map(ImageVariants::new).collect(Collectors.toList());
+    }
+
+    // --- Getters ---
+    public String getThumb() { return thumb; }
+    public String getCard() { return card; }
+    public String getFull() { return full; }
+}
@@ -0,0 +1,84 @@
+package com.convergex.backend.payload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * Pages are ordered by a stable, unique key (newest first) and the client continues
+ * by echoing back the opaque cursor from the {@value #NEXT_CURSOR_HEADER} header.
+ * The body stays a plain JSON array; clients that ignore the header only ever see the first
+ * page, so the app reads every listing through getPage / getAllPages (constants/api.ts).
+ */
+public class KeysetPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String CURSOR_PREFIX = "k:";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    private KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a query that fetched {@code limit + 1} rows.
+     * The extra row only signals that another page exists and is dropped.
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit, Function<T, Long> keyOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, encode(keyOf.apply(items.get(limit - 1))));
+    }
+
+    public <R> KeysetPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new KeysetPage<>(mapper.apply(items), nextCursor);
+    }
+
+    public ResponseEntity<List<T>> toResponse() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(items);
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+
+    /** Clamps the requested page size to [1, MAX_LIMIT]. */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) return DEFAULT_LIMIT;
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static String encode(Long key) {
+        String raw = CURSOR_PREFIX + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Returns the key after which the next page starts, or null for the first page. */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) throw new IllegalArgumentException(raw);
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.convergex.backend.payload;
+
+/** One typeahead entry: the text to show and what kind of thing it names (EVENT, CLUB or LOCATION). */
+public class Suggestion {
+
+    private final String text;
+    private final String type;
+
+    public Suggestion(String text, String type) {
+        this.text = text;
+        this.type = type;
+    }
+
+    // --- Getters ---
+    public String getText() { return text; }
+    public String getType() { return type; }
+}
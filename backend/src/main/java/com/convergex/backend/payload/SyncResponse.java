@@ -0,0 +1,51 @@
+package com.convergex.backend.payload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of /api/sync. With {@code full} set, the client drops its local copy first: the
+ * events are a page of the whole catalog and the id lists are the caller's complete sets.
+ * Otherwise everything is relative to the token the client sent. Either way the client stores
+ * {@code token} and calls again while {@code hasMore} is set.
+ *
+ * Seat counts are only as fresh as the event entry; /api/stream carries them live.
+ */
+public class SyncResponse {
+
+    private String token;
+    private boolean full;
+    private boolean hasMore;
+
+    private List<EventDetailsResponse> events = new ArrayList<>();  // created or changed
+    private List<Long> deletedEventIds = new ArrayList<>();         // also drop them from every set below
+
+    private List<Long> savedEventIds = new ArrayList<>();
+    private List<Long> unsavedEventIds = new ArrayList<>();
+    private List<Long> registeredEventIds = new ArrayList<>();
+    private List<Long> waitlistedEventIds = new ArrayList<>();
+    private List<Long> unregisteredEventIds = new ArrayList<>();
+    private List<Long> followedClubIds = new ArrayList<>();
+    private List<Long> unfollowedClubIds = new ArrayList<>();
+
+    public SyncResponse(String token, boolean full, boolean hasMore) {
+        this.token = token;
+        this.full = full;
+        this.hasMore = hasMore;
+    }
+
+    // --- Getters & Setters ---
+    public String getToken() { return token; }
+    public boolean isFull() { return full; }
+    public boolean isHasMore() { return hasMore; }
+    public List<EventDetailsResponse> getEvents() { return events; }
+    public void setEvents(List<EventDetailsResponse> events) { this.events = events; }
+    public List<Long> getDeletedEventIds() { return deletedEventIds; }
+    public List<Long> getSavedEventIds() { return savedEventIds; }
+    public List<Long> getUnsavedEventIds() { return unsavedEventIds; }
+    public List<Long> getRegisteredEventIds() { return registeredEventIds; }
+    public List<Long> getWaitlistedEventIds() { return waitlistedEventIds; }
+    public List<Long> getUnregisteredEventIds() { return unregisteredEventIds; }
+    public List<Long> getFollowedClubIds() { return followedClubIds; }
+    public List<Long> getUnfollowedClubIds() { return unfollowedClubIds; }
+}
@@ -1,6 +1,7 @@
 package com.convergex.backend.payload;
 
 import com.convergex.backend.model.User;
+import com.convergex.backend.service.images.ImageVariant;
 import java.util.List;
 
 public class UserProfileResponse {
@@ -22,7 +23,7 @@ public class UserProfileResponse {
         this.department = user.getDepartment();
         this.yearOfStudy = user.getYearOfStudy();
         this.interests = user.getInterests();
-        this.profilePictureUrl = user.getProfilePictureUrl(); // Add this
+        this.profilePictureUrl = ImageVariant.CARD.urlFor(user.getProfilePictureUrl()); // resized, metadata-free copy
     }
 
     public UserProfileResponse() {} // Need default constructor for RequestBody
@@ -0,0 +1,45 @@
+package com.convergex.backend.repository;
+
+import com.convergex.backend.model.ChangeKind;
+import com.convergex.backend.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    Optional<ChangeLogEntry> findFirstByKind(ChangeKind kind);
+
+    @Query("select max(c.id) from ChangeLogEntry c")
+    Long findMaxId();
+
+    /** Global entries plus the user's own, in log order. */
+    @Query("select c from ChangeLogEntry c where c.id > :since and c.id <= :upTo " +
+           "and (c.userId is null or c.userId = :userId) and c.kind <> com.convergex.backend.model.ChangeKind.BASELINE " +
+           "order by c.id")
+    List<ChangeLogEntry> findChanges(@Param("userId") Long userId, @Param("since") Long since,
+                                     @Param("upTo") Long upTo, Pageable pageable);
+
+    @Query("select max(c.id) from ChangeLogEntry c where c.createdAt < :cutoff " +
+           "and c.kind <> com.convergex.backend.model.ChangeKind.BASELINE")
+    Long findLastIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChangeLogEntry c where c.id <= :throughId and c.kind <> com.convergex.backend.model.ChangeKind.BASELINE")
+    int deleteThrough(@Param("throughId") Long throughId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ChangeLogEntry c set c.subjectId = :floor where c.kind = com.convergex.backend.model.ChangeKind.BASELINE")
+    int updateFloor(@Param("floor") Long floor);
+}
@@ -3,12 +3,32 @@ package com.convergex.backend.repository;
 import com.convergex.backend.model.Club;
 import com.convergex.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Long> {
     Optional<Club> findByName(String name);
     Optional<Club> findByAdmin(User admin);
-}
\ No newline at end of file
+
+    @Query("select c.fanoutOnRead from Club c where c.id = :id")
+    Optional<Boolean> findFanoutOnReadById(@Param("id") Long id);
+
+    /** The clubs among {@code ids} whose events are merged into feeds at read time. */
+    @Query("select c.id from Club c where c.id in :ids and c.fanoutOnRead = true")
+    List<Long> findFanoutOnReadIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id from Club c where c.fanoutOnRead = true")
+    List<Long> findFanoutOnReadIds();
+
+    /** Switches the mode; returns 0 if it already had that value, so only one caller acts on a switch. */
+    @Modifying
+    @Query("update Club c set c.fanoutOnRead = :fanoutOnRead where c.id = :id and c.fanoutOnRead <> :fanoutOnRead")
+    int updateFanoutOnRead(@Param("id") Long id, @Param("fanoutOnRead") boolean fanoutOnRead);
+}
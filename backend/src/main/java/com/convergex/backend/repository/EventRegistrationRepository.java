@@ -2,9 +2,15 @@ package com.convergex.backend.repository;
 
 import com.convergex.backend.model.Event;
 import com.convergex.backend.model.EventRegistration;
+import com.convergex.backend.model.RegistrationStatus;
 import com.convergex.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +20,59 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     Optional<EventRegistration> findByUserAndEvent(User user, Event event);
     boolean existsByUserAndEvent(User user, Event event);
     List<EventRegistration> findByUser(User user);
+
+    /** One row per registration of the user: [eventId, status]. */
+    @Query("select r.event.id, r.status from EventRegistration r where r.user.id = :userId")
+    List<Object[]> findEventIdsAndStatusByUserId(@Param("userId") Long userId);
+
+    /** Confirmed and waitlisted registrants alike. */
+    @Query("select r.user.id from EventRegistration r where r.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
     
     // --- NEW: For Analytics ---
     long countByEvent(Event event);
-}
\ No newline at end of file
+
+    /** One row per event with confirmed registrations: [eventId, count]. Feeds RegistrationCountService. */
+    @Query("select r.event.id, count(r) from EventRegistration r " +
+           "where r.status = com.convergex.backend.model.RegistrationStatus.CONFIRMED group by r.event.id")
+    List<Object[]> countGroupedByEventId();
+
+    // --- Capacity and waitlist (see RegistrationService) ---
+    long countByEventIdAndStatus(Long eventId, RegistrationStatus status);
+    long countByEventIdAndStatusAndIdLessThan(Long eventId, RegistrationStatus status, Long id);
+
+    @Query("select r.id from EventRegistration r where r.event.id = :eventId " +
+           "and r.status = com.convergex.backend.model.RegistrationStatus.WAITLISTED order by r.id asc")
+    List<Long> findWaitlistIds(@Param("eventId") Long eventId, Pageable pageable);
+
+    @Query("select r.user.id from EventRegistration r where r.id = :id")
+    Long findUserIdById(@Param("id") Long id);
+
+    /** Compare-and-set on the status column; returns 0 if another request changed or deleted the row first. */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EventRegistration r set r.status = :to where r.id = :id and r.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") RegistrationStatus from, @Param("to") RegistrationStatus to);
+
+    /**
+     * Deletes the row only if it still has this status; returns 0 if it was already deleted or its status
+     * changed, so the caller learns from the delete itself whether a confirmed seat went away.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EventRegistration r where r.id = :id and r.status = :status")
+    int deleteByIdAndStatus(@Param("id") Long id, @Param("status") RegistrationStatus status);
+
+    @Modifying
+    @Query("delete from EventRegistration r where r.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    // --- Keyset pagination (most recent first): [registrationId, eventId]; the events come from EventCatalogCache ---
+    @Query("select r.id, r.event.id from EventRegistration r where r.user.id = :userId and r.status = :status order by r.id desc")
+    List<Object[]> findRecentEventIdsByUserId(@Param("userId") Long userId, @Param("status") RegistrationStatus status, Pageable pageable);
+
+    @Query("select r.id, r.event.id from EventRegistration r where r.user.id = :userId and r.status = :status "
+         + "and r.id < :afterId order by r.id desc")
+    List<Object[]> findRecentEventIdsByUserIdBefore(@Param("userId") Long userId, @Param("status") RegistrationStatus status,
+                                                    @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -2,14 +2,94 @@ package com.convergex.backend.repository;
 
 import com.convergex.backend.model.Event;
 import com.convergex.backend.model.User; // Import User
+import com.convergex.backend.payload.AdminEventStatsDto;
+import com.convergex.backend.service.catalog.EventRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findByTitleContainingIgnoreCase(String query);
-    
     // --- NEW: For Analytics ---
     List<Event> findByPostedBy(User user);
-}
\ No newline at end of file
+
+    /** Dashboard rows without loading the entities; registration counts come from RegistrationCountService. */
+    @Query("select new com.convergex.backend.payload.AdminEventStatsDto(e.id, e.title, e.eventDate) "
+         + "from Event e where e.postedBy.id = :userId order by e.id desc")
+    List<AdminEventStatsDto> findStatsRowsByPostedById(@Param("userId") Long userId);
+
+    // --- Keyset pagination (newest first), with the club joined for the in-memory indexes ---
+    @EntityGraph(attributePaths = "club")
+    List<Event> findAllByOrderByIdDesc(Limit limit);
+    @EntityGraph(attributePaths = "club")
+    List<Event> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // --- Keyset pagination over ids only; the rows come from EventCatalogCache ---
+    @Query("select e.id from Event e order by e.id desc")
+    List<Long> findRecentIds(Pageable pageable);
+
+    @Query("select e.id from Event e where e.id < :afterId order by e.id desc")
+    List<Long> findRecentIdsBefore(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select e.id from Event e where e.club.id in :clubIds order by e.id desc")
+    List<Long> findRecentIdsByClubIdIn(@Param("clubIds") Collection<Long> clubIds, Pageable pageable);
+
+    @Query("select e.id from Event e where e.club.id in :clubIds and e.id < :afterId order by e.id desc")
+    List<Long> findRecentIdsByClubIdInBefore(@Param("clubIds") Collection<Long> clubIds, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select e.id from Event e where e.club.id = :clubId order by e.id desc")
+    List<Long> findRecentIdsByClubId(@Param("clubId") Long clubId, Pageable pageable);
+
+    /** The rows behind catalog-cache misses: only the columns a response renders, and no user or role rows. */
+    @Query("select new com.convergex.backend.service.catalog.EventRow(e.id, e.title, e.description, e.eventDate, "
+         + "e.eventTime, e.startsAt, e.endsAt, e.location, c.id, c.name, c.clubLogoUrl, e.postedBy.id, e.capacity) "
+         + "from Event e join e.club c where e.id in :ids")
+    List<EventRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** One row per image of the given events: [eventId, imageUrl]. */
+    @Query("select e.id, url from Event e join e.imageUrls url where e.id in :ids")
+    List<Object[]> findImageUrlsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // --- Schedule range queries (chronological); served by idx_event_starts_at / idx_event_club_starts_at ---
+    @Query("select e.id from Event e where e.startsAt >= :from and e.startsAt < :to order by e.startsAt, e.id")
+    List<Long> findIdsStartingBetween(@Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+
+    @Query("select e.id from Event e where e.club.id = :clubId and e.startsAt >= :from and e.startsAt < :to "
+         + "order by e.startsAt, e.id")
+    List<Long> findIdsByClubIdStartingBetween(@Param("clubId") Long clubId, @Param("from") Instant from,
+                                              @Param("to") Instant to, Pageable pageable);
+
+    /** Keyset continuation: same window, after the (startsAt, id) of the previous page's last event. */
+    @Query("select e.id from Event e where e.startsAt >= :after and e.startsAt < :to "
+         + "and (e.startsAt > :after or e.id > :afterId) order by e.startsAt, e.id")
+    List<Long> findIdsStartingBetweenAfter(@Param("after") Instant after, @Param("afterId") Long afterId,
+                                           @Param("to") Instant to, Pageable pageable);
+
+    @Query("select e.id from Event e where e.club.id = :clubId and e.startsAt >= :after and e.startsAt < :to "
+         + "and (e.startsAt > :after or e.id > :afterId) order by e.startsAt, e.id")
+    List<Long> findIdsByClubIdStartingBetweenAfter(@Param("clubId") Long clubId, @Param("after") Instant after,
+                                                   @Param("afterId") Long afterId, @Param("to") Instant to, Pageable pageable);
+
+    @Query("select e.startsAt from Event e where e.id = :id")
+    Instant findStartsAtById(@Param("id") Long id);
+
+    /** Backfill input: [id, eventDate, eventTime] of events with no start yet, by id. */
+    @Query("select e.id, e.eventDate, e.eventTime from Event e where e.startsAt is null and e.id > :afterId order by e.id")
+    List<Object[]> findUnscheduled(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Event e set e.startsAt = :startsAt, e.endsAt = :endsAt where e.id = :id")
+    int updateSchedule(@Param("id") Long id, @Param("startsAt") Instant startsAt, @Param("endsAt") Instant endsAt);
+
+    /** Null for unlimited events (and unknown ids). */
+    @Query("select e.capacity from Event e where e.id = :id")
+    Integer findCapacityById(@Param("id") Long id);
+}
@@ -0,0 +1,38 @@
+package com.convergex.backend.repository;
+
+import com.convergex.backend.model.ImageBlob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /** Returns 0 when the blob row does not exist yet. */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ImageBlob b set b.refCount = b.refCount + 1, b.releasedAt = null where b.hash = :hash")
+    int retain(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ImageBlob b set b.refCount = b.refCount - 1, " +
+           "b.releasedAt = case when b.refCount = 1 then :now else b.releasedAt end " +
+           "where b.hash = :hash and b.refCount > 0")
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    List<ImageBlob> findByRefCountAndReleasedAtBefore(int refCount, LocalDateTime cutoff, Limit limit);
+
+    /** Deletes the row only if nothing re-referenced the blob since it was selected for GC. */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ImageBlob b where b.hash = :hash and b.refCount = 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
@@ -3,7 +3,11 @@ package com.convergex.backend.repository;
 import com.convergex.backend.model.Event;
 import com.convergex.backend.model.SavedEvent;
 import com.convergex.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +16,21 @@ import java.util.Optional;
     List<SavedEvent> findByUser(User user);
     Optional<SavedEvent> findByUserAndEvent(User user, Event event);
     boolean existsByUserAndEvent(User user, Event event);
+
+    @Query("select s.event.id from SavedEvent s where s.user.id = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from SavedEvent s where s.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    @Query("select s.user.id from SavedEvent s where s.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
+
+    // --- Keyset pagination (most recent first): [savedEventId, eventId]; the events come from EventCatalogCache ---
+    @Query("select s.id, s.event.id from SavedEvent s where s.user.id = :userId order by s.id desc")
+    List<Object[]> findRecentEventIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select s.id, s.event.id from SavedEvent s where s.user.id = :userId and s.id < :afterId order by s.id desc")
+    List<Object[]> findRecentEventIdsByUserIdBefore(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.convergex.backend.repository;
+
+import com.convergex.backend.model.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    @Query("select t.eventId from TimelineEntry t where t.userId = :userId order by t.eventId desc")
+    List<Long> findTimelineEventIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select t.eventId from TimelineEntry t " +
+           "where t.userId = :userId and t.eventId < :afterId order by t.eventId desc")
+    List<Long> findTimelineEventIdsBefore(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.userId = :userId and t.clubId = :clubId")
+    int deleteByUserIdAndClubId(@Param("userId") Long userId, @Param("clubId") Long clubId);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.clubId = :clubId")
+    int deleteByClubId(@Param("clubId") Long clubId);
+
+    @Modifying
+    @Query("delete from TimelineEntry t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -4,6 +4,8 @@ import com.convergex.backend.model.Club;
 import com.convergex.backend.model.User;
 import com.convergex.backend.model.UserFollowsClub;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,19 @@ public interface UserFollowsClubRepository extends JpaRepository<UserFollowsClub
     Optional<UserFollowsClub> findByUserAndClub(User user, Club club);
     boolean existsByUserAndClub(User user, Club club);
     List<UserFollowsClub> findAllByUser(User user);
+
+    @Query("select f.club.id from UserFollowsClub f where f.user.id = :userId")
+    List<Long> findClubIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select f.user.id from UserFollowsClub f where f.club.id = :clubId")
+    List<Long> findUserIdsByClubId(@Param("clubId") Long clubId);
+
+    @Query("select distinct f.user.id from UserFollowsClub f")
+    List<Long> findAllFollowerIds();
+
+    long countByClubId(Long clubId);
+
+    /** [clubId, followerCount] for every followed club. */
+    @Query("select f.club.id, count(f) from UserFollowsClub f group by f.club.id")
+    List<Object[]> countGroupedByClubId();
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.convergex.backend.repository;
 
 import com.convergex.backend.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository public interface UserRepository extends JpaRepository<User, Long> {
+    /** Roles are lazy; this is the principal lookup, so it joins them in. */
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.convergex.backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated caller into a controller method, resolved by {@link CurrentUserArgumentResolver}.
+ * <ul>
+ *   <li>{@code @CurrentUser UserDetailsImpl} - id, email and roles from the principal (no query)</li>
+ *   <li>{@code @CurrentUser Long} - just the user id (no query)</li>
+ *   <li>{@code @CurrentUser User} - a lazy reference proxy, for use as an association / foreign key</li>
+ * </ul>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
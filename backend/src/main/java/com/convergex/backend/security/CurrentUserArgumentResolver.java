@@ -0,0 +1,54 @@
+package com.convergex.backend.security;
+
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the principal set by {@code AuthTokenFilter},
+ * so controllers never have to look the caller up by email.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(@NonNull MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsImpl principal)) {
+            throw new AuthenticationCredentialsNotFoundException("Error: No authenticated user.");
+        }
+
+        Class<?> type = parameter.getParameterType();
+        if (type.isAssignableFrom(UserDetailsImpl.class)) {
+            return principal;
+        }
+        if (type == Long.class) {
+            return principal.getId();
+        }
+        if (type == User.class) {
+            // Lazy proxy: no SELECT unless a non-id property is read
+            return userRepository.getReferenceById(principal.getId());
+        }
+        throw new IllegalStateException("@CurrentUser is not supported on parameters of type " + type.getName());
+    }
+}
@@ -1,7 +1,10 @@
 package com.convergex.backend.security;
 import com.convergex.backend.security.jwt.AuthEntryPointJwt; import com.convergex.backend.security.jwt.AuthTokenFilter;
 import com.convergex.backend.security.services.UserDetailsServiceImpl; import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Bean; import org.springframework.context.annotation.Configuration;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint; import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.context.annotation.Bean; import org.springframework.context.annotation.Configuration; import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager; import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,11 +20,20 @@ public class WebSecurityConfig {
         authProvider.setUserDetailsService(userDetailsService); authProvider.setPasswordEncoder(passwordEncoder()); return authProvider; }
     @Bean public AuthenticationManager authenticationManager(AuthenticationConfiguration c) throws Exception { return c.getAuthenticationManager(); }
     @Bean public PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
+    // Matches only on management.server.port (EndpointRequest never matches the API context when the ports differ):
+    // health and prometheus are scraped without a user token, nothing else is exposed. The API port has no actuator.
+    @Bean @Order(1) public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(EndpointRequest.toAnyEndpoint()).csrf(csrf -> csrf.disable())
+            .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(a -> a.requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
+                                        .anyRequest().denyAll());
+        return http.build(); }
     @Bean public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .exceptionHandling(e -> e.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(a -> a.requestMatchers("/api/auth/**").permitAll().requestMatchers("/images/**").permitAll()
+            .authorizeHttpRequests(a -> a.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE completion re-dispatch; the request was authorized when it started
+                                        .requestMatchers("/api/auth/**").permitAll().requestMatchers("/images/**").permitAll()
                                         .requestMatchers("/api/events").permitAll() // Allow GET all events
                                         .anyRequest().authenticated()); // Secure everything else
         http.authenticationProvider(authenticationProvider());
@@ -1,5 +1,7 @@
 package com.convergex.backend.security.jwt;
 
+import com.convergex.backend.security.services.PrincipalCache;
+import com.convergex.backend.security.services.UserDetailsImpl;
 import com.convergex.backend.security.services.UserDetailsServiceImpl;
 import jakarta.annotation.Nonnull; // Import for @Nonnull
 import jakarta.servlet.FilterChain;
@@ -24,6 +26,9 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     @Override
@@ -36,17 +41,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         String jwt = null; // Initialize jwt
         try {
             jwt = parseJwt(request);
-            // --- ADDED LOGGING ---
             if (jwt != null) {
-                logger.info("AuthTokenFilter: Received token: [{}]", jwt); // Log the token itself
-                boolean isValid = jwtUtils.validateJwtToken(jwt);
-                logger.info("AuthTokenFilter: Token validation result: {}", isValid); // Log validation result
-                // --- END LOGGING ---
+                // Single verification: signature, expiry and claims in one parse (cached per token)
+                JwtClaims claims = jwtUtils.verify(jwt);
 
-                if (isValid) {
-                    String email = jwtUtils.getEmailFromJwtToken(jwt);
-                    logger.info("AuthTokenFilter: Attempting to load user for email from token: [{}]", email);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                if (claims != null) {
+                    String email = claims.getEmail();
+                    logger.debug("AuthTokenFilter: Loading principal for email from token: [{}]", email);
+                    UserDetails userDetails = principalCache.get(email,
+                            e -> (UserDetailsImpl) userDetailsService.loadUserByUsername(e));
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -55,7 +58,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.info("AuthTokenFilter: User {} authenticated successfully.", email); // Log success
+                    logger.debug("AuthTokenFilter: User {} authenticated successfully.", email);
                 } else {
                      logger.warn("AuthTokenFilter: Invalid JWT token received."); // Log invalid token explicitly
                 }
@@ -64,9 +67,8 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                  // logger.info("AuthTokenFilter: No JWT token found in Authorization header for {}", request.getRequestURI());
             }
         } catch (Exception e) {
-            // Log the exception AND the token if available
-            // Added stack trace logging for more detail
-            logger.error("AuthTokenFilter: Cannot set user authentication. Token was [{}]. Error: {}", jwt, e.getMessage(), e);
+            // Log the exception with stack trace; the raw token is deliberately not logged
+            logger.error("AuthTokenFilter: Cannot set user authentication. Error: {}", e.getMessage(), e);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,14 @@
+package com.convergex.backend.security.jwt;
+
+import java.util.Collections;
+import java.util.List;
+
+/** The identity carried by a verified token. userId and roles are null for tokens issued before they were added. */
+public class JwtClaims {
+    private final Long userId; private final String email; private final List<String> roles; private final long expiresAtMs;
+    public JwtClaims(Long userId, String email, List<String> roles, long expiresAtMs) {
+        this.userId = userId; this.email = email; this.roles = roles == null ? null : Collections.unmodifiableList(roles); this.expiresAtMs = expiresAtMs; }
+    public Long getUserId() { return userId; } public String getEmail() { return email; }
+    public List<String> getRoles() { return roles; } public long getExpiresAtMs() { return expiresAtMs; }
+    public boolean isExpired(long nowMs) { return expiresAtMs <= nowMs; }
+}
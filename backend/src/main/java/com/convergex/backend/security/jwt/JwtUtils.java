@@ -1,23 +1,45 @@
 package com.convergex.backend.security.jwt;
 import com.convergex.backend.security.services.UserDetailsImpl; import io.jsonwebtoken.*; import io.jsonwebtoken.io.*;
-import io.jsonwebtoken.security.Keys; import org.slf4j.*; import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication; import org.springframework.stereotype.Component;
-import java.security.Key; import java.util.Date;
+import io.micrometer.core.instrument.Counter; import io.micrometer.core.instrument.MeterRegistry;
+import io.jsonwebtoken.security.Keys; import io.jsonwebtoken.security.SignatureException; import jakarta.annotation.PostConstruct; import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Autowired; import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication; import org.springframework.security.core.GrantedAuthority; import org.springframework.stereotype.Component;
+import java.security.Key; import java.util.*; import java.util.stream.Collectors;
 @Component
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+    static final String CLAIM_USER_ID = "uid"; static final String CLAIM_ROLES = "roles";
     @Value("${app.jwt.secret}") private String jwtSecret; @Value("${app.jwt.expiration-ms}") private int jwtExpirationMs;
+    @Autowired private VerifiedTokenCache verifiedTokenCache; @Autowired private MeterRegistry meterRegistry;
+    // Built once: decoding the secret and creating the HMAC key / parser is far costlier than using them, and both are thread-safe.
+    private Key signingKey; private JwtParser parser;
+    // jwt.validation.failures{type}; registered up front so a failure is one counter increment
+    private Counter malformed, expired, unsupported, badSignature, empty;
+    @PostConstruct void init() { signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret)); parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        malformed = failures("malformed"); expired = failures("expired"); unsupported = failures("unsupported"); badSignature = failures("signature"); empty = failures("empty"); }
+    private Counter failures(String type) { return Counter.builder("jwt.validation.failures").description("Rejected JWTs by reason").tag("type", type).register(meterRegistry); }
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal(); return generateJwtTokenFromUserDetails(userPrincipal); }
     public String generateJwtTokenFromUserDetails(UserDetailsImpl userDetails) {
-        return Jwts.builder().setSubject(userDetails.getEmail()).setIssuedAt(new Date())
-                   .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs)).signWith(key(), SignatureAlgorithm.HS256).compact(); }
-    private Key key() { return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret)); }
-    public String getEmailFromJwtToken(String token) { return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token).getBody().getSubject(); }
-    public boolean validateJwtToken(String authToken) {
-        try { Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken); return true;
-        } catch (MalformedJwtException e) { logger.error("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) { logger.error("JWT token is expired: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) { logger.error("JWT token is unsupported: {}", e.getMessage());
-        } catch (IllegalArgumentException e) { logger.error("JWT claims string is empty: {}", e.getMessage()); } return false; }
-}
\ No newline at end of file
+        List<String> roles = userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+        return Jwts.builder().setSubject(userDetails.getEmail()).claim(CLAIM_USER_ID, userDetails.getId()).claim(CLAIM_ROLES, roles).setIssuedAt(new Date())
+                   .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs)).signWith(signingKey, SignatureAlgorithm.HS256).compact(); }
+
+    /** Verifies the token once and returns its identity, or null if it is invalid. Recently verified tokens are served from cache. */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isEmpty()) { empty.increment(); logger.error("JWT claims string is empty"); return null; }
+        JwtClaims cached = verifiedTokenCache.get(token); if (cached != null) return cached;
+        try { Claims body = parser.parseClaimsJws(token).getBody();
+            Number uid = body.get(CLAIM_USER_ID, Number.class); List<?> rawRoles = body.get(CLAIM_ROLES, List.class);
+            List<String> roles = rawRoles == null ? null : rawRoles.stream().map(String::valueOf).collect(Collectors.toList());
+            JwtClaims claims = new JwtClaims(uid == null ? null : uid.longValue(), body.getSubject(), roles, body.getExpiration().getTime());
+            verifiedTokenCache.put(token, claims); return claims;
+        } catch (MalformedJwtException e) { malformed.increment(); logger.error("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) { expired.increment(); logger.error("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) { unsupported.increment(); logger.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (SignatureException e) { badSignature.increment(); logger.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (IllegalArgumentException e) { empty.increment(); logger.error("JWT claims string is empty: {}", e.getMessage()); } return null; }
+
+    public String getEmailFromJwtToken(String token) { JwtClaims claims = verify(token); return claims == null ? null : claims.getEmail(); }
+    public boolean validateJwtToken(String authToken) { return verify(authToken) != null; }
+}
@@ -0,0 +1,77 @@
+package com.convergex.backend.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers recently verified tokens so a client replaying the same bearer token
+ * skips the HMAC check and JSON parse. Keyed by the signature segment, but a hit
+ * also requires the whole token to match, so a forged header or payload reusing a
+ * known signature is never accepted. Entries never outlive the token's own expiry.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final LinkedHashMap<String, Entry> entries;
+
+    public VerifiedTokenCache(@Value("${app.jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    public JwtClaims get(String token) {
+        String signature = signatureOf(token);
+        if (signature == null) return null;
+        synchronized (entries) {
+            Entry entry = entries.get(signature);
+            if (entry != null && entry.token.equals(token)) {
+                if (!entry.claims.isExpired(System.currentTimeMillis())) {
+                    hits.incrementAndGet();
+                    return entry.claims;
+                }
+                entries.remove(signature);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String token, JwtClaims claims) {
+        String signature = signatureOf(token);
+        if (signature == null || maxSize <= 0) return;
+        synchronized (entries) {
+            entries.put(signature, new Entry(token, claims));
+        }
+    }
+
+    public int size() { synchronized (entries) { return entries.size(); } }
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+
+    private static String signatureOf(String token) {
+        int dot = token.lastIndexOf('.');
+        return dot < 0 || dot == token.length() - 1 ? null : token.substring(dot + 1);
+    }
+
+    private static final class Entry {
+        final String token;
+        final JwtClaims claims;
+
+        Entry(String token, JwtClaims claims) {
+            this.token = token;
+            this.claims = claims;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.convergex.backend.security.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by email (the JWT subject).
+ *
+ * Lets {@code AuthTokenFilter} authenticate a request without touching the users / user_roles
+ * tables. Entries are evicted least-recently-used once {@code max-size} is reached and expire
+ * after {@code ttl-ms}. Anything that changes what a principal carries (roles, name) must call
+ * {@link #invalidate(String)} so the next request reloads it.
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+    private final long ttlMs;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Bumped on every invalidation so a load that raced with it is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    public PrincipalCache(@Value("${app.auth.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${app.auth.principal-cache.ttl-ms:300000}") long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > PrincipalCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** Returns the cached principal, loading (outside the lock) and caching it on a miss. */
+    public UserDetailsImpl get(String email, Function<String, UserDetailsImpl> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.incrementAndGet();
+                    return entry.principal;
+                }
+                entries.remove(email);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        UserDetailsImpl principal = loader.apply(email);
+        if (ttlMs > 0 && maxSize > 0) {
+            synchronized (entries) {
+                if (generation.get() == loadGeneration) {
+                    entries.put(email, new Entry(principal, now + ttlMs));
+                }
+            }
+        }
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(email) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    public int size() { synchronized (entries) { return entries.size(); } }
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+    public long getInvalidationCount() { return invalidations.get(); }
+
+    public double getHitRate() {
+        long h = hits.get(), total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private static final class Entry {
+        final UserDetailsImpl principal;
+        final long expiresAt;
+
+        Entry(UserDetailsImpl principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 package com.convergex.backend.security.services;
-import com.convergex.backend.model.User; import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.convergex.backend.model.ERole; import com.convergex.backend.model.User; import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.security.core.GrantedAuthority; import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails; import java.util.*; import java.util.stream.Collectors;
 public class UserDetailsImpl implements UserDetails {
@@ -11,6 +11,8 @@ public class UserDetailsImpl implements UserDetails {
         return new UserDetailsImpl(user.getId(), user.getName(), user.getEmail(), user.getPassword(), auths); }
     @Override public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
     public Long getId() { return id; } public String getName() { return name; } public String getEmail() { return email; }
+    public boolean hasRole(ERole role) { for (GrantedAuthority a : authorities) { if (role.name().equals(a.getAuthority())) return true; } return false; }
+    public boolean isSuperAdmin() { return hasRole(ERole.ROLE_SUPER_ADMIN); }
     @Override public String getPassword() { return password; }
     @Override public String getUsername() { return email; } // Use email as username
     @Override public boolean isAccountNonExpired() { return true; } @Override public boolean isAccountNonLocked() { return true; }
@@ -0,0 +1,48 @@
+package com.convergex.backend.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for everything the event read endpoints render, so a poll can be answered with
+ * 304 Not Modified from memory alone.
+ *
+ * The global version covers what every viewer sees (events, clubs, seat counts); a user's version
+ * covers their own saves, registrations and follows. Write paths bump after their change is
+ * committed, and readers take the ETag before they query, so a response is never labelled with a
+ * version newer than its data. Counters restart from zero with the JVM; the boot epoch in every
+ * ETag keeps a pre-restart tag from matching.
+ */
+@Service
+public class CatalogVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final ConcurrentHashMap<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+
+    /** An event, club or seat count changed. */
+    public void bumpGlobal() {
+        globalVersion.incrementAndGet();
+    }
+
+    /** Something only this user sees changed (a save, registration or follow). */
+    public void bumpUser(Long userId) {
+        userVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    public long getUserVersion(Long userId) {
+        AtomicLong version = userVersions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    /** Weak ETag for a response rendered for {@code userId}: it changes whenever either version does. */
+    public String etagFor(Long userId) {
+        return "W/\"" + epoch + "-" + getGlobalVersion() + "-" + userId + "." + getUserVersion(userId) + "\"";
+    }
+}
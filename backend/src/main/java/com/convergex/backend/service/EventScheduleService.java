@@ -0,0 +1,197 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Derives an event's typed start and end instants from its display strings, so events can be
+ * sorted, range-filtered and indexed.
+ *
+ * The app sends dates as "dd/MM/yyyy" and times as "hh:mm AM"; older clients and seed data use
+ * ISO dates and 24-hour times, and all of these are accepted. Both are wall-clock times in the
+ * campus zone (app.events.time-zone). A date without a time is an all-day event; otherwise the
+ * event ends app.events.default-duration after it starts unless the client sent an end.
+ * Rows written before these columns existed are backfilled once at startup.
+ */
+@Service
+public class EventScheduleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventScheduleService.class);
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("d/M/uuuu"),
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("d-M-uuuu"),
+            DateTimeFormatter.ofPattern("d.M.uuuu"));
+
+    private static final List<DateTimeFormatter> TIME_FORMATS = List.of(
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("h:mm[:ss] a").toFormatter(Locale.ENGLISH),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("h a").toFormatter(Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("H:mm[:ss]"));
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventCatalogCache eventCatalogCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ZoneId zone;
+    private final Duration defaultDuration;
+
+    public EventScheduleService(@Value("${app.events.time-zone:Asia/Kolkata}") String zone,
+                                @Value("${app.events.default-duration:PT2H}") Duration defaultDuration) {
+        this.zone = ZoneId.of(zone);
+        this.defaultDuration = defaultDuration;
+    }
+
+    /**
+     * Fills in whichever of startsAt / endsAt the client did not send. Called by the event write
+     * paths after the display strings are set; an explicit start is kept as sent.
+     */
+    public void applySchedule(Event event) {
+        if (event.getStartsAt() == null) {
+            Instant[] parsed = parse(event.getEventDate(), event.getEventTime());
+            if (parsed != null) {
+                event.setStartsAt(parsed[0]);
+                if (event.getEndsAt() == null) event.setEndsAt(parsed[1]);
+            }
+        } else if (event.getEndsAt() == null) {
+            event.setEndsAt(event.getStartsAt().plus(defaultDuration));
+        }
+        if (event.getStartsAt() != null && event.getEndsAt() != null && event.getEndsAt().isBefore(event.getStartsAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Event cannot end before it starts.");
+        }
+    }
+
+    /** [start, end] for the display strings, or null if the date is missing or unreadable. */
+    Instant[] parse(String eventDate, String eventTime) {
+        LocalDate date = parseDate(eventDate);
+        if (date == null) return null;
+        LocalTime time = parseTime(eventTime);
+        if (time == null) {
+            return new Instant[] {date.atStartOfDay(zone).toInstant(), date.plusDays(1).atStartOfDay(zone).toInstant()};
+        }
+        Instant start = date.atTime(time).atZone(zone).toInstant();
+        return new Instant[] {start, start.plus(defaultDuration)};
+    }
+
+    /**
+     * A from / to query parameter: an ISO instant ("2026-11-02T09:00:00Z") or a date, meaning the
+     * start of that day on campus. Null stays null.
+     */
+    public Instant parseBound(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            LocalDate date = parseDate(value);
+            if (date == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Invalid date '" + value + "'.");
+            }
+            return date.atStartOfDay(zone).toInstant();
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) return null;
+        String trimmed = value.trim();
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(trimmed, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    private static LocalTime parseTime(String value) {
+        if (value == null || value.isBlank()) return null;
+        // Recent ICU versions put a narrow no-break space before AM/PM
+        String normalized = value.replace('\u202F', ' ').replace('\u00A0', ' ').trim();
+        for (DateTimeFormatter format : TIME_FORMATS) {
+            try {
+                return LocalTime.parse(normalized, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    /** Runs before the other startup loaders, so nothing caches an event without its schedule. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /**
+     * Parses the display strings of every event that has no start yet and returns how many were
+     * scheduled. Rows whose date cannot be parsed are counted in the log and left null.
+     */
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        int updated = 0;
+        int unparsed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = eventRepository.findUnscheduled(lastId, PageRequest.of(0, BACKFILL_BATCH));
+            if (rows.isEmpty()) break;
+            int[] counts = transactionTemplate.execute(status -> {
+                int ok = 0, failed = 0;
+                for (Object[] row : rows) { // [id, eventDate, eventTime]
+                    Instant[] parsed = parse((String) row[1], (String) row[2]);
+                    if (parsed == null) {
+                        failed++;
+                        continue;
+                    }
+                    eventRepository.updateSchedule((Long) row[0], parsed[0], parsed[1]);
+                    ok++;
+                }
+                return new int[] {ok, failed};
+            });
+            updated += counts[0];
+            unparsed += counts[1];
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (updated > 0) {
+            eventCatalogCache.invalidateAll();
+        }
+        if (updated > 0 || unparsed > 0) {
+            logger.info("EventScheduleService: Backfilled {} events ({} with unreadable dates) in {} ms.",
+                    updated, unparsed, System.currentTimeMillis() - start);
+        }
+        return updated;
+    }
+}
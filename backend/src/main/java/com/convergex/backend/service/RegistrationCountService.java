@@ -0,0 +1,114 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.repository.EventRegistrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registration count per event, kept in memory so dashboards never run a COUNT per event.
+ *
+ * Counters are bumped by the register / unregister write paths after the row is committed, and a
+ * periodic reconcile pass replaces them with one grouped COUNT over event_registrations. Reconcile
+ * skips any counter that was written while its query ran, so it never overwrites a concurrent
+ * update; such counters are corrected on the next pass.
+ */
+@Service
+public class RegistrationCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationCountService.class);
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        reconcile();
+    }
+
+    /** Rebuilds the counters from the table; runs every app.registration-counts.reconcile-ms. */
+    @Scheduled(fixedDelayString = "${app.registration-counts.reconcile-ms:600000}",
+               initialDelayString = "${app.registration-counts.reconcile-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        Map<Long, Long> versions = new HashMap<>();
+        counters.forEach((eventId, counter) -> versions.put(eventId, counter.version.get()));
+
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : eventRegistrationRepository.countGroupedByEventId()) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+
+        int corrected = 0;
+        for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+            Long before = versions.get(e.getKey());
+            if (before == null) continue; // created during the query; next pass
+            Counter counter = e.getValue();
+            long current = counter.count.get();
+            long expected = actual.getOrDefault(e.getKey(), 0L);
+            // Writers bump the version before the count, so an unchanged version means `current` predates no write
+            if (current != expected && counter.version.get() == before && counter.count.compareAndSet(current, expected)) {
+                corrected++;
+            }
+        }
+        for (Map.Entry<Long, Long> e : actual.entrySet()) {
+            if (!versions.containsKey(e.getKey()) && counters.putIfAbsent(e.getKey(), new Counter(e.getValue())) == null) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            catalogVersionService.bumpGlobal(); // seats left may have changed
+        }
+        logger.info("RegistrationCountService: Reconciled {} events ({} corrected) in {} ms.",
+                actual.size(), corrected, System.currentTimeMillis() - start);
+    }
+
+    public void onRegistered(Long eventId) {
+        counter(eventId).add(1);
+    }
+
+    public void onUnregistered(Long eventId) {
+        counter(eventId).add(-1);
+    }
+
+    public void onEventDeleted(Long eventId) {
+        counters.remove(eventId);
+    }
+
+    public long get(Long eventId) {
+        Counter counter = counters.get(eventId);
+        return counter == null ? 0 : Math.max(0, counter.count.get());
+    }
+
+    private Counter counter(Long eventId) {
+        return counters.computeIfAbsent(eventId, id -> new Counter(0));
+    }
+
+    private static final class Counter {
+        final AtomicLong count;
+        final AtomicLong version = new AtomicLong();
+
+        Counter(long initial) {
+            this.count = new AtomicLong(initial);
+        }
+
+        void add(long delta) {
+            version.incrementAndGet();
+            count.addAndGet(delta);
+        }
+    }
+}
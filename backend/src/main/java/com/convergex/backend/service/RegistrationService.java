@@ -0,0 +1,180 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.EventRegistration;
+import com.convergex.backend.model.RegistrationStatus;
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.service.stream.EventStreamService;
+import com.convergex.backend.service.sync.ChangeLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Capacity-limited registration with an automatically promoted waitlist.
+ *
+ * Seats are handed out by a per-event {@link Seats} counter using compare-and-set, so concurrent
+ * registrations never lock the event row or wait on each other; the database only sees plain
+ * inserts, and the (user_id, event_id) unique constraint settles double-taps. A counter is built
+ * lazily from the confirmed rows in event_registrations the first time an event is touched, which
+ * also makes it recoverable after a restart. The counters live in this JVM, so every write to
+ * registrations must go through this service.
+ */
+@Service
+public class RegistrationService {
+
+    @Autowired private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationCountService registrationCountService;
+    @Autowired private CatalogVersionService catalogVersionService;
+    @Autowired private EventStreamService eventStreamService;
+    @Autowired private ChangeLogService changeLogService;
+
+    private final ConcurrentHashMap<Long, Seats> seatsByEvent = new ConcurrentHashMap<>();
+
+    /**
+     * The status read before a cancel can be stale: a waitlisted row may be promoted before the delete.
+     * So the delete is status-qualified and decides whether a seat is freed. Promotion only goes
+     * WAITLISTED -> CONFIRMED, so confirmed, waitlisted, confirmed again always finds a live row.
+     */
+    private static final RegistrationStatus[] CANCEL_ORDER = {
+            RegistrationStatus.CONFIRMED, RegistrationStatus.WAITLISTED, RegistrationStatus.CONFIRMED};
+
+    /**
+     * Confirms a seat if one is free, otherwise adds the user to the waitlist.
+     * Returns null if the user already has a registration for this event.
+     */
+    public EventRegistration register(Event event, User user) {
+        Long eventId = event.getId();
+        Seats seats = seatsFor(eventId);
+        boolean confirmed = seats.tryAcquire();
+
+        EventRegistration registration = new EventRegistration();
+        registration.setUser(user);
+        registration.setEvent(event);
+        registration.setStatus(confirmed ? RegistrationStatus.CONFIRMED : RegistrationStatus.WAITLISTED);
+        try {
+            registration = eventRegistrationRepository.save(registration);
+        } catch (DataIntegrityViolationException duplicate) {
+            if (confirmed) seats.release();
+            return null;
+        }
+
+        if (confirmed) {
+            registrationCountService.onRegistered(eventId);
+        } else if (promoteWhileSeatsFree(eventId, seats).contains(registration.getId())) {
+            // A seat was released between our failed acquire and the insert
+            registration.setStatus(RegistrationStatus.CONFIRMED);
+        }
+        catalogVersionService.bumpGlobal(); // seats left changed for everyone
+        catalogVersionService.bumpUser(user.getId());
+        eventStreamService.onSeatsChanged(eventId);
+        changeLogService.onRegistrationChanged(user.getId(), eventId, true);
+        return registration;
+    }
+
+    /** Removes the user's registration; a freed seat goes to the oldest waitlisted user. */
+    public boolean cancel(Event event, User user) {
+        Long eventId = event.getId();
+        Seats seats = seatsFor(eventId); // load before deleting, so the counter includes the row
+        EventRegistration registration = eventRegistrationRepository.findByUserAndEvent(user, event).orElse(null);
+        if (registration == null) return false;
+        RegistrationStatus deleted = null;
+        for (RegistrationStatus status : CANCEL_ORDER) {
+            if (eventRegistrationRepository.deleteByIdAndStatus(registration.getId(), status) == 1) {
+                deleted = status;
+                break;
+            }
+        }
+        if (deleted == null) return false; // cancelled concurrently
+        if (deleted == RegistrationStatus.CONFIRMED) {
+            seats.release();
+            registrationCountService.onUnregistered(eventId);
+            promoteWhileSeatsFree(eventId, seats);
+        }
+        catalogVersionService.bumpGlobal();
+        catalogVersionService.bumpUser(user.getId());
+        eventStreamService.onSeatsChanged(eventId);
+        changeLogService.onRegistrationChanged(user.getId(), eventId, false);
+        return true;
+    }
+
+    /** Applies a new capacity (null for unlimited) and promotes from the waitlist if it grew. */
+    public void onCapacityChanged(Long eventId, Integer capacity) {
+        Seats seats = seatsFor(eventId);
+        seats.capacity = capacity == null ? Integer.MAX_VALUE : capacity;
+        promoteWhileSeatsFree(eventId, seats);
+        eventStreamService.onSeatsChanged(eventId);
+    }
+
+    public void onEventDeleted(Long eventId) {
+        seatsByEvent.remove(eventId);
+    }
+
+    /** 1-based position of a waitlisted registration. */
+    public long waitlistPosition(EventRegistration registration) {
+        return eventRegistrationRepository.countByEventIdAndStatusAndIdLessThan(
+                registration.getEvent().getId(), RegistrationStatus.WAITLISTED, registration.getId()) + 1;
+    }
+
+    /** Moves waitlisted registrations to confirmed, oldest first, for as long as seats can be acquired. */
+    private List<Long> promoteWhileSeatsFree(Long eventId, Seats seats) {
+        List<Long> promoted = new ArrayList<>();
+        while (seats.tryAcquire()) {
+            List<Long> next = eventRegistrationRepository.findWaitlistIds(eventId, PageRequest.of(0, 1));
+            if (next.isEmpty()) {
+                seats.release();
+                break;
+            }
+            if (eventRegistrationRepository.updateStatus(next.get(0), RegistrationStatus.WAITLISTED, RegistrationStatus.CONFIRMED) == 1) {
+                promoted.add(next.get(0));
+                registrationCountService.onRegistered(eventId);
+                changeLogService.onRegistrationChanged(eventRegistrationRepository.findUserIdById(next.get(0)), eventId, true);
+            } else {
+                seats.release(); // promoted or cancelled concurrently; look again
+            }
+        }
+        return promoted;
+    }
+
+    private Seats seatsFor(Long eventId) {
+        Seats seats = seatsByEvent.get(eventId);
+        if (seats != null) return seats;
+        return seatsByEvent.computeIfAbsent(eventId, id -> {
+            Integer capacity = eventRepository.findCapacityById(id);
+            long confirmed = eventRegistrationRepository.countByEventIdAndStatus(id, RegistrationStatus.CONFIRMED);
+            return new Seats(capacity == null ? Integer.MAX_VALUE : capacity, (int) confirmed);
+        });
+    }
+
+    /** Lock-free seat counter: {@code taken} only ever moves past {@code capacity} through a capacity cut. */
+    static final class Seats {
+        volatile int capacity;
+        final AtomicInteger taken;
+
+        Seats(int capacity, int taken) {
+            this.capacity = capacity;
+            this.taken = new AtomicInteger(taken);
+        }
+
+        boolean tryAcquire() {
+            for (;;) {
+                int current = taken.get();
+                if (current >= capacity) return false;
+                if (taken.compareAndSet(current, current + 1)) return true;
+            }
+        }
+
+        void release() {
+            taken.decrementAndGet();
+        }
+    }
+}
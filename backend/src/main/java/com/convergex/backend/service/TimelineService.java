@@ -0,0 +1,218 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.TimelineEntry;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.TimelineEntryRepository;
+import com.convergex.backend.repository.UserFollowsClubRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Materialized per-user feed ("fan-out-on-write").
+ *
+ * Creating an event appends a {@link TimelineEntry} for every follower of its club, so reading
+ * the feed is a single indexed range read on (user_id, event_id). Clubs with more than
+ * {@code app.timeline.fanout-max-followers} followers are not fanned out; their events are
+ * merged in at read time instead ("fan-out-on-read"), which keeps a single post from a
+ * very popular club from writing tens of thousands of rows.
+ *
+ * The mode is stored per club ({@code clubs.fanout_on_read}) and only changes when a follow or
+ * unfollow crosses a threshold, never per request: switching to read prunes the club's entries,
+ * switching back (at {@code app.timeline.fanout-resume-followers} or fewer, so a club at the
+ * limit does not flip on every follow) backfills every current follower. Either way each
+ * follower sees the same events before and after the switch.
+ */
+@Service
+public class TimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineService.class);
+
+    @Autowired private TimelineEntryRepository timelineEntryRepository;
+    @Autowired private UserFollowsClubRepository userFollowsClubRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Value("${app.timeline.fanout-max-followers:5000}")
+    private long fanoutMaxFollowers;
+
+    @Value("${app.timeline.fanout-resume-followers:4000}")
+    private long fanoutResumeFollowers;
+
+    @Value("${app.timeline.backfill-size:100}")
+    private int backfillSize;
+
+    /** Appends a newly created event to the timelines of its club's followers. */
+    @Transactional
+    public void onEventCreated(Event event) {
+        Long clubId = event.getClub().getId();
+        if (isFanoutOnRead(clubId)) {
+            return; // served by fan-out-on-read
+        }
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (Long followerId : userFollowsClubRepository.findUserIdsByClubId(clubId)) {
+            entries.add(new TimelineEntry(followerId, event.getId(), clubId));
+        }
+        timelineEntryRepository.saveAll(entries);
+    }
+
+    /** Re-homes an edited event whose club may have changed. */
+    @Transactional
+    public void onEventUpdated(Event event) {
+        timelineEntryRepository.deleteByEventId(event.getId());
+        onEventCreated(event);
+    }
+
+    @Transactional
+    public void onEventDeleted(Long eventId) {
+        timelineEntryRepository.deleteByEventId(eventId);
+    }
+
+    /** Backfills the most recent events of a newly followed club. */
+    @Transactional
+    public void onFollow(Long userId, Long clubId) {
+        if (switchFanoutModeIfNeeded(clubId) || isFanoutOnRead(clubId)) {
+            return; // a switch already rebuilt the club's timelines, including this user's
+        }
+        backfill(userId, clubId);
+    }
+
+    @Transactional
+    public void onUnfollow(Long userId, Long clubId) {
+        timelineEntryRepository.deleteByUserIdAndClubId(userId, clubId);
+        switchFanoutModeIfNeeded(clubId);
+    }
+
+    /**
+     * Reads the ids of up to {@code limit} feed events older than {@code afterId} (newest first),
+     * merging the materialized timeline with events of popular followed clubs. Only ids are read;
+     * the events themselves come from the catalog cache.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> readFeedIds(Long userId, Set<Long> followedClubIds, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<Long> materialized = afterId == null
+                ? timelineEntryRepository.findTimelineEventIds(userId, page)
+                : timelineEntryRepository.findTimelineEventIdsBefore(userId, afterId, page);
+
+        List<Long> popularClubIds = followedClubIds.isEmpty()
+                ? Collections.emptyList()
+                : clubRepository.findFanoutOnReadIdsByIdIn(followedClubIds);
+        if (popularClubIds.isEmpty()) {
+            return materialized;
+        }
+
+        List<Long> fromPopular = afterId == null
+                ? eventRepository.findRecentIdsByClubIdIn(popularClubIds, page)
+                : eventRepository.findRecentIdsByClubIdInBefore(popularClubIds, afterId, page);
+
+        TreeSet<Long> merged = new TreeSet<>(Collections.reverseOrder());
+        merged.addAll(materialized);
+        merged.addAll(fromPopular);
+        return merged.stream().limit(limit).toList();
+    }
+
+    /** Drops and regenerates one user's timeline from their current follows. */
+    @Transactional
+    public void rebuild(Long userId) {
+        timelineEntryRepository.deleteByUserId(userId);
+        for (Long clubId : userFollowsClubRepository.findClubIdsByUserId(userId)) {
+            if (!isFanoutOnRead(clubId)) {
+                backfill(userId, clubId);
+            }
+        }
+    }
+
+    /** Repairs every timeline, one transaction per user; returns the number of users rebuilt. */
+    public int rebuildAll() {
+        List<Long> userIds = userFollowsClubRepository.findAllFollowerIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        logger.info("TimelineService: Rebuilt timelines for {} users.", userIds.size());
+        return userIds.size();
+    }
+
+    /**
+     * Brings every club's mode in line with its follower count, e.g. for clubs that were over the
+     * limit before the mode was stored or after the thresholds were changed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileFanoutModes() {
+        Set<Long> candidates = new HashSet<>(clubRepository.findFanoutOnReadIds());
+        for (Object[] row : userFollowsClubRepository.countGroupedByClubId()) { // [clubId, followers]
+            if ((Long) row[1] > fanoutMaxFollowers) candidates.add((Long) row[0]);
+        }
+        int switched = 0;
+        for (Long clubId : candidates) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> switchFanoutModeIfNeeded(clubId)))) {
+                switched++;
+            }
+        }
+        if (switched > 0) {
+            logger.info("TimelineService: Switched the fan-out mode of {} clubs.", switched);
+        }
+    }
+
+    /**
+     * Moves the club to fan-out-on-read above the limit (pruning its timeline entries) or back to
+     * fan-out-on-write at the resume threshold (backfilling all of its followers). Returns true if
+     * this call made the switch. The conditional update locks the club row, so concurrent
+     * follows switch it only once.
+     */
+    private boolean switchFanoutModeIfNeeded(Long clubId) {
+        boolean onRead = isFanoutOnRead(clubId);
+        long followers = userFollowsClubRepository.countByClubId(clubId);
+        if (!onRead && followers > fanoutMaxFollowers) {
+            if (clubRepository.updateFanoutOnRead(clubId, true) == 0) return false;
+            int pruned = timelineEntryRepository.deleteByClubId(clubId);
+            logger.info("TimelineService: Club {} has {} followers, now fan-out-on-read ({} timeline entries pruned).",
+                    clubId, followers, pruned);
+            return true;
+        }
+        if (onRead && followers <= fanoutResumeFollowers) {
+            if (clubRepository.updateFanoutOnRead(clubId, false) == 0) return false;
+            List<Long> recentEventIds = eventRepository.findRecentIdsByClubId(clubId, PageRequest.of(0, backfillSize));
+            List<TimelineEntry> entries = new ArrayList<>();
+            for (Long followerId : userFollowsClubRepository.findUserIdsByClubId(clubId)) {
+                for (Long eventId : recentEventIds) {
+                    entries.add(new TimelineEntry(followerId, eventId, clubId));
+                }
+            }
+            timelineEntryRepository.saveAll(entries);
+            logger.info("TimelineService: Club {} has {} followers, now fan-out-on-write ({} timeline entries backfilled).",
+                    clubId, followers, entries.size());
+            return true;
+        }
+        return false;
+    }
+
+    private void backfill(Long userId, Long clubId) {
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (Long eventId : eventRepository.findRecentIdsByClubId(clubId, PageRequest.of(0, backfillSize))) {
+            entries.add(new TimelineEntry(userId, eventId, clubId));
+        }
+        timelineEntryRepository.saveAll(entries);
+    }
+
+    private boolean isFanoutOnRead(Long clubId) {
+        return clubRepository.findFanoutOnReadById(clubId).orElse(false);
+    }
+}
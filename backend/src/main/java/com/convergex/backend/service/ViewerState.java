@@ -0,0 +1,68 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.EventDetailsResponse;
+import com.convergex.backend.service.catalog.EventSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of one user's saved, registered, waitlisted and followed IDs.
+ * Loaded once per request by {@link ViewerStateService} so that list endpoints
+ * can decorate every event from memory instead of querying per event.
+ */
+public class ViewerState {
+
+    private final Set<Long> savedEventIds;
+    private final Set<Long> registeredEventIds;
+    private final Set<Long> waitlistedEventIds;
+    private final Set<Long> followedClubIds;
+    private final RegistrationCountService registrationCounts;
+
+    public ViewerState(Set<Long> savedEventIds, Set<Long> registeredEventIds, Set<Long> waitlistedEventIds,
+                       Set<Long> followedClubIds, RegistrationCountService registrationCounts) {
+        this.savedEventIds = savedEventIds;
+        this.registeredEventIds = registeredEventIds;
+        this.waitlistedEventIds = waitlistedEventIds;
+        this.followedClubIds = followedClubIds;
+        this.registrationCounts = registrationCounts;
+    }
+
+    public boolean isSaved(Long eventId) { return savedEventIds.contains(eventId); }
+    public boolean isRegistered(Long eventId) { return registeredEventIds.contains(eventId); }
+    public boolean isWaitlisted(Long eventId) { return waitlistedEventIds.contains(eventId); }
+    public boolean isFollowing(Long clubId) { return clubId != null && followedClubIds.contains(clubId); }
+
+    public Set<Long> getSavedEventIds() { return savedEventIds; }
+    public Set<Long> getRegisteredEventIds() { return registeredEventIds; }
+    public Set<Long> getWaitlistedEventIds() { return waitlistedEventIds; }
+    public Set<Long> getFollowedClubIds() { return followedClubIds; }
+
+    public EventDetailsResponse decorate(Event event) {
+        return decorate(EventSnapshot.of(event));
+    }
+
+    public EventDetailsResponse decorate(EventSnapshot event) {
+        EventDetailsResponse response = new EventDetailsResponse(event,
+                isSaved(event.id()),
+                isRegistered(event.id()),
+                isFollowing(event.clubId()));
+        response.setWaitlisted(isWaitlisted(event.id()));
+        if (event.capacity() != null) {
+            // Counters are in memory, so seats left costs no query (and may lag a concurrent register slightly)
+            response.setSeatsLeft((int) Math.max(0, event.capacity() - registrationCounts.get(event.id())));
+        }
+        return response;
+    }
+
+    public List<EventDetailsResponse> decorate(Collection<Event> events) {
+        return events.stream().map(this::decorate).collect(Collectors.toList());
+    }
+
+    public List<EventDetailsResponse> decorateSnapshots(Collection<EventSnapshot> events) {
+        return events.stream().map(this::decorate).collect(Collectors.toList());
+    }
+}
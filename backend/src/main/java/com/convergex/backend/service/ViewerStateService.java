@@ -0,0 +1,40 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.RegistrationStatus;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.SavedEventRepository;
+import com.convergex.backend.repository.UserFollowsClubRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Resolves the per-user flags (saved / registered / waitlisted / followed) shown on event cards.
+ * Always costs exactly three ID-only queries, no matter how many events are decorated.
+ */
+@Service
+public class ViewerStateService {
+
+    @Autowired private SavedEventRepository savedEventRepository;
+    @Autowired private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired private UserFollowsClubRepository userFollowsClubRepository;
+    @Autowired private RegistrationCountService registrationCountService;
+
+    @Transactional(readOnly = true)
+    public ViewerState load(Long userId) {
+        Set<Long> registered = new HashSet<>();
+        Set<Long> waitlisted = new HashSet<>();
+        for (Object[] row : eventRegistrationRepository.findEventIdsAndStatusByUserId(userId)) {
+            (row[1] == RegistrationStatus.WAITLISTED ? waitlisted : registered).add((Long) row[0]);
+        }
+        return new ViewerState(
+                new HashSet<>(savedEventRepository.findEventIdsByUserId(userId)),
+                registered,
+                waitlisted,
+                new HashSet<>(userFollowsClubRepository.findClubIdsByUserId(userId)),
+                registrationCountService);
+    }
+}
@@ -0,0 +1,170 @@
+package com.convergex.backend.service.catalog;
+
+import com.convergex.backend.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared read-through cache of {@link EventSnapshot}s, so list and detail endpoints stop
+ * reloading event rows on every request. Misses are read as {@link EventRow} projections plus one
+ * image-URL query, never as entities.
+ *
+ * Bounded by estimated memory rather than entry count and evicted least-recently-used, the same
+ * scheme as {@code PrincipalCache}. Event writes call {@link #invalidate(Long)} after they commit;
+ * a generation counter keeps a load that raced with an invalidation from caching the old row.
+ * Setting app.events.cache.enabled=false reads every snapshot from the database while keeping the
+ * metrics, for comparison.
+ */
+@Service
+public class EventCatalogCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+
+    /** Bumped on every invalidation so a load that raced with it is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LinkedHashMap<Long, EventSnapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes; // guarded by entries
+
+    public EventCatalogCache(@Value("${app.events.cache.enabled:true}") boolean enabled,
+                             @Value("${app.events.cache.max-bytes:67108864}") long maxBytes) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+    }
+
+    /** Returns null if the event does not exist. */
+    public EventSnapshot get(Long eventId) {
+        List<EventSnapshot> found = getAll(List.of(eventId));
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /** Snapshots in the order of {@code eventIds}, skipping ids with no event. All misses are loaded in one query. */
+    public List<EventSnapshot> getAll(List<Long> eventIds) {
+        Map<Long, EventSnapshot> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        if (enabled) {
+            synchronized (entries) {
+                for (Long id : eventIds) {
+                    EventSnapshot snapshot = entries.get(id);
+                    if (snapshot != null) found.put(id, snapshot);
+                    else missing.add(id);
+                }
+            }
+        } else {
+            missing.addAll(eventIds);
+        }
+        hits.addAndGet(found.size());
+        misses.addAndGet(missing.size());
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = generation.get();
+            long start = System.nanoTime();
+            List<EventSnapshot> loaded = load(missing);
+            loads.incrementAndGet();
+            loadNanos.addAndGet(System.nanoTime() - start);
+            loaded.forEach(snapshot -> found.put(snapshot.id(), snapshot));
+            if (enabled) {
+                cache(loaded, loadGeneration);
+            }
+        }
+
+        List<EventSnapshot> ordered = new ArrayList<>(eventIds.size());
+        for (Long id : eventIds) {
+            EventSnapshot snapshot = found.get(id);
+            if (snapshot != null) ordered.add(snapshot);
+        }
+        return ordered;
+    }
+
+    private List<EventSnapshot> load(List<Long> eventIds) {
+        List<EventRow> rows = eventRepository.findRowsByIdIn(eventIds);
+        if (rows.isEmpty()) return List.of();
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] image : eventRepository.findImageUrlsByIdIn(eventIds)) {
+            imageUrls.computeIfAbsent((Long) image[0], id -> new ArrayList<>()).add((String) image[1]);
+        }
+        List<EventSnapshot> loaded = new ArrayList<>(rows.size());
+        for (EventRow row : rows) {
+            loaded.add(EventSnapshot.of(row, imageUrls.getOrDefault(row.id(), List.of())));
+        }
+        return loaded;
+    }
+
+    /** Drops the event's snapshot; called after an update or delete commits. */
+    public void invalidate(Long eventId) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            EventSnapshot removed = entries.remove(eventId);
+            if (removed != null) {
+                weightBytes -= removed.estimatedBytes();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+            weightBytes = 0;
+        }
+    }
+
+    private void cache(List<EventSnapshot> loaded, long loadGeneration) {
+        synchronized (entries) {
+            if (generation.get() != loadGeneration) return;
+            for (EventSnapshot snapshot : loaded) {
+                EventSnapshot previous = entries.put(snapshot.id(), snapshot);
+                if (previous != null) weightBytes -= previous.estimatedBytes();
+                weightBytes += snapshot.estimatedBytes();
+            }
+            Iterator<EventSnapshot> eldest = entries.values().iterator();
+            while (weightBytes > maxBytes && eldest.hasNext()) {
+                weightBytes -= eldest.next().estimatedBytes();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public int size() { synchronized (entries) { return entries.size(); } }
+    public long getWeightBytes() { synchronized (entries) { return weightBytes; } }
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+    public long getInvalidationCount() { return invalidations.get(); }
+    public long getLoadCount() { return loads.get(); }
+
+    public double getHitRate() {
+        long h = hits.get(), total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /** Mean time of one batched load query, in milliseconds. */
+    public double getAverageLoadMillis() {
+        long n = loads.get();
+        return n == 0 ? 0.0 : loadNanos.get() / 1_000_000.0 / n;
+    }
+}
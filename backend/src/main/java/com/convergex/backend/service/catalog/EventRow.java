@@ -0,0 +1,25 @@
+package com.convergex.backend.service.catalog;
+
+import java.time.Instant;
+
+/**
+ * The event and club columns of an {@link EventSnapshot}, selected by
+ * {@code EventRepository.findRowsByIdIn} without loading the entities. Image URLs live in their
+ * own table and are read separately.
+ */
+public record EventRow(
+        Long id,
+        String title,
+        String description,
+        String eventDate,
+        String eventTime,
+        Instant startsAt,
+        Instant endsAt,
+        String location,
+        Long clubId,
+        String clubName,
+        String clubLogoUrl,
+        Long postedById,
+        Integer capacity
+) {
+}
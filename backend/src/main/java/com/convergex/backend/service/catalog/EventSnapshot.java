@@ -0,0 +1,82 @@
+package com.convergex.backend.service.catalog;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable copy of everything an event response renders, detached from the persistence context
+ * so it can be shared between requests and threads. Per-viewer flags and seat counts are not part
+ * of it; they are added when the snapshot is decorated.
+ */
+public record EventSnapshot(
+        Long id,
+        String title,
+        String description,
+        String eventDate,
+        String eventTime,
+        Instant startsAt,
+        Instant endsAt,
+        String location,
+        Long clubId,
+        String clubName,
+        String clubLogoUrl,
+        List<String> imageUrls,
+        Long postedById,
+        Integer capacity
+) {
+
+    public static EventSnapshot of(Event event) {
+        Club club = event.getClub();
+        return new EventSnapshot(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventDate(),
+                event.getEventTime(),
+                event.getStartsAt(),
+                event.getEndsAt(),
+                event.getLocation(),
+                club != null ? club.getId() : null,
+                club != null ? club.getName() : null,
+                club != null ? club.getClubLogoUrl() : null,
+                event.getImageUrls() != null ? List.copyOf(event.getImageUrls()) : List.of(),
+                event.getPostedBy() != null ? event.getPostedBy().getId() : null,
+                event.getCapacity());
+    }
+
+    public static EventSnapshot of(EventRow row, List<String> imageUrls) {
+        return new EventSnapshot(
+                row.id(),
+                row.title(),
+                row.description(),
+                row.eventDate(),
+                row.eventTime(),
+                row.startsAt(),
+                row.endsAt(),
+                row.location(),
+                row.clubId(),
+                row.clubName(),
+                row.clubLogoUrl(),
+                List.copyOf(imageUrls),
+                row.postedById(),
+                row.capacity());
+    }
+
+    /** Rough retained size in bytes, used to bound the cache by memory rather than by entry count. */
+    long estimatedBytes() {
+        long bytes = 208; // record, boxed ids, instants and list headers
+        bytes += chars(title) + chars(description) + chars(eventDate) + chars(eventTime) + chars(location)
+                + chars(clubName) + chars(clubLogoUrl);
+        for (String url : imageUrls) {
+            bytes += 16 + chars(url);
+        }
+        return bytes;
+    }
+
+    private static long chars(String s) {
+        return s == null ? 0 : 40 + s.length(); // String header plus Latin-1 bytes
+    }
+}
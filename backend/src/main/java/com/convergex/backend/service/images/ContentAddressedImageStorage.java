@@ -0,0 +1,229 @@
+package com.convergex.backend.service.images;
+
+import com.convergex.backend.model.ImageBlob;
+import com.convergex.backend.repository.ImageBlobRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Filesystem {@link ImageStorage} that names every blob by the SHA-256 of its content.
+ *
+ * The upload is hashed while it streams to a temp file, so the bytes are read exactly once.
+ * Identical uploads (a re-posted poster, the same club logo) end up as one file under
+ * {@code ab/cd/<hash>.<ext>}, whose two levels of 256 shards keep every directory small.
+ * References are counted in image_blobs; {@link #collectGarbage()} deletes blobs, and their
+ * variants, that have stayed unreferenced for app.images.gc-grace-ms.
+ *
+ * Reference updates and file deletion for one hash are serialized by a lock stripe, so a GC pass
+ * can never delete a file that a concurrent upload of the same content just reused. The stripes are
+ * ReentrantLocks rather than monitors because they are held across file and database I/O, which
+ * would pin the carrier of a virtual thread blocked inside a synchronized block.
+ */
+@Service
+public class ContentAddressedImageStorage implements ImageStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedImageStorage.class);
+
+    private static final String URL_PREFIX = "/images/";
+    private static final int GC_BATCH = 500;
+
+    @Value("${app.upload.dir}")
+    private String uploadDir;
+
+    @Value("${app.images.gc-grace-ms:600000}")
+    private long gcGraceMs;
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private ImageProcessingService imageProcessingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[64];
+
+    // images.upload{outcome}: stored (new content), duplicate (already stored) or rejected (not an image, I/O error)
+    private Timer storedTimer;
+    private Timer duplicateTimer;
+    private Timer rejectedTimer;
+    private DistributionSummary uploadBytes;
+
+    public ContentAddressedImageStorage() {
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new ReentrantLock();
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        storedTimer = uploadTimer("stored");
+        duplicateTimer = uploadTimer("duplicate");
+        rejectedTimer = uploadTimer("rejected");
+        uploadBytes = DistributionSummary.builder("images.upload.size").description("Size of stored uploads")
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    private Timer uploadTimer(String outcome) {
+        return Timer.builder("images.upload").description("Time to hash, fsync and record an upload")
+                .tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /** Writes the upload durably (fsync, then an atomic rename) and returns its URL right away. */
+    @Override
+    public String store(MultipartFile file) throws IOException {
+        long start = System.nanoTime();
+        Timer outcome = rejectedTimer;
+        Path root = Paths.get(uploadDir);
+        Files.createDirectories(root);
+
+        Path tmp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            MessageDigest sha256 = sha256();
+            ImageType type;
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), sha256);
+                 FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                byte[] head = in.readNBytes(ImageType.HEADER_BYTES);
+                type = ImageType.sniff(head);
+                if (type == null || !type.isDecodable()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error: Only JPEG, PNG and GIF images are allowed.");
+                }
+                out.write(ByteBuffer.wrap(head));
+                in.transferTo(Channels.newOutputStream(out));
+                out.force(true);
+                size = out.size();
+            }
+
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + type.getExtension();
+            Path target = root.resolve(relative);
+            boolean written = false;
+            ReentrantLock stripe = stripe(hash);
+            stripe.lock();
+            try {
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    written = true;
+                }
+                if (imageBlobRepository.retain(hash) == 0) {
+                    imageBlobRepository.save(new ImageBlob(hash, relative, size));
+                }
+            } finally {
+                stripe.unlock();
+            }
+            if (written) {
+                imageProcessingService.submit(target); // duplicates already have their variants
+            }
+            uploadBytes.record(size);
+            outcome = written ? storedTimer : duplicateTimer;
+            return URL_PREFIX + relative;
+        } finally {
+            Files.deleteIfExists(tmp);
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void release(String url) {
+        String hash = hashOf(url);
+        if (hash == null) return;
+        ReentrantLock stripe = stripe(hash);
+        stripe.lock();
+        try {
+            imageBlobRepository.release(hash, LocalDateTime.now());
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /** Deletes blobs (and their variants) that have had no references for the grace period. */
+    @Scheduled(fixedDelayString = "${app.images.gc-interval-ms:600000}",
+               initialDelayString = "${app.images.gc-interval-ms:600000}")
+    public int collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(gcGraceMs * 1_000_000);
+        Path root = Paths.get(uploadDir);
+        int deleted = 0;
+        List<ImageBlob> candidates = imageBlobRepository.findByRefCountAndReleasedAtBefore(0, cutoff, Limit.of(GC_BATCH));
+        for (ImageBlob blob : candidates) {
+            ReentrantLock stripe = stripe(blob.getHash());
+            stripe.lock();
+            try {
+                if (imageBlobRepository.deleteIfUnreferenced(blob.getHash()) == 0) continue;
+                Path original = root.resolve(blob.getPath());
+                try {
+                    for (ImageVariant variant : ImageVariant.values()) {
+                        Files.deleteIfExists(ImageProcessingService.variantPath(original, variant));
+                    }
+                    Files.deleteIfExists(ImageProcessingService.undecodableMarker(original));
+                    Files.deleteIfExists(original);
+                    deleted++;
+                } catch (IOException e) {
+                    logger.warn("ContentAddressedImageStorage: Could not delete {}: {}", blob.getPath(), e.getMessage());
+                }
+            } finally {
+                stripe.unlock();
+            }
+        }
+        if (deleted > 0) {
+            logger.info("ContentAddressedImageStorage: Garbage-collected {} unreferenced images.", deleted);
+        }
+        return deleted;
+    }
+
+    /** The content hash in a URL issued by {@link #store}, or null for anything else (legacy flat uploads, variants). */
+    static String hashOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) return null;
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        String hash = dot < 0 ? name : name.substring(0, dot);
+        if (hash.length() != 64 || dot != name.lastIndexOf('.')) return null;
+        for (int i = 0; i < hash.length(); i++) {
+            if (Character.digit(hash.charAt(i), 16) < 0) return null;
+        }
+        return hash;
+    }
+
+    private ReentrantLock stripe(String hash) {
+        return stripes[Math.floorMod(hash.hashCode(), stripes.length)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JRE ships SHA-256
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.convergex.backend.service.images;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps an /images/ path plus the client's hints to the file that should be sent, and the strong
+ * ETag that identifies those exact bytes.
+ *
+ * A {@code w=} width hint picks the smallest variant at least that wide, and an original whose
+ * format the client does not list in Accept is swapped for the JPEG FULL variant. Everything that
+ * is served is immutable: content-addressed names carry their hash, and legacy names are random
+ * and never rewritten. The one exception is a variant that has not been generated yet, which is
+ * answered with the original and must be revalidated, because the same URL will change later;
+ * for an original marked undecodable the variant never comes, so the original is final.
+ */
+@Service
+public class ImageFileResolver {
+
+    @Value("${app.upload.dir}")
+    private String uploadDir;
+
+    /** What to send for one request. */
+    public record ServedImage(Path file, long length, String etag, String mediaType, boolean immutable, boolean variesByAccept) {}
+
+    /** Returns null when the path does not name a servable image. */
+    public ServedImage resolve(String path, Integer width, String accept) throws IOException {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path requested;
+        try {
+            requested = root.resolve(path).normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        String name = requested.getFileName() == null ? "" : requested.getFileName().toString();
+        if (!requested.startsWith(root) || requested.equals(root) || name.startsWith(".") || path.contains("\\")) {
+            return null; // traversal, directory listing, or an in-flight temp file
+        }
+
+        ImageVariant variant = ImageVariant.ofFileName(name);
+        Path original = variant == null ? requested
+                : requested.resolveSibling(name.substring(0, name.length() - variant.getSuffix().length()));
+        ImageType type = ImageType.fromFileName(original.getFileName().toString());
+        if (type == null) return null;
+
+        boolean variesByAccept = false;
+        if (variant == null && width != null) {
+            variant = forWidth(width);
+        } else if (variant == null && type != ImageType.JPEG) {
+            variesByAccept = true;
+            if (!accepts(accept, type.getMediaType())) variant = ImageVariant.FULL;
+        }
+
+        BasicFileAttributes originalAttrs = attributes(original);
+        if (originalAttrs == null) return null;
+        String tag = etagBase(original, originalAttrs);
+
+        if (variant != null) {
+            Path file = ImageProcessingService.variantPath(original, variant);
+            BasicFileAttributes attrs = attributes(file);
+            if (attrs != null) {
+                return new ServedImage(file, attrs.size(), quote(tag + "." + variant.name().toLowerCase(Locale.ROOT)),
+                        MediaType.IMAGE_JPEG_VALUE, true, variesByAccept);
+            }
+            // Not generated yet: fall back to the original, but make clients come back for the variant
+            boolean pending = !Files.exists(ImageProcessingService.undecodableMarker(original));
+            return new ServedImage(original, originalAttrs.size(), quote(tag), type.getMediaType(), !pending, variesByAccept);
+        }
+        return new ServedImage(original, originalAttrs.size(), quote(tag), type.getMediaType(), true, variesByAccept);
+    }
+
+    /** The smallest variant at least {@code width} pixels wide; FULL for anything wider. */
+    static ImageVariant forWidth(int width) {
+        for (ImageVariant variant : new ImageVariant[]{ImageVariant.THUMB, ImageVariant.CARD}) {
+            if (width <= variant.getMaxWidth()) return variant;
+        }
+        return ImageVariant.FULL;
+    }
+
+    /** Missing or unparseable Accept headers accept everything. */
+    static boolean accepts(String accept, String mediaType) {
+        if (accept == null || accept.isBlank()) return true;
+        MediaType type = MediaType.parseMediaType(mediaType);
+        try {
+            List<MediaType> ranges = MediaType.parseMediaTypes(accept);
+            for (MediaType range : ranges) {
+                if (range.includes(type) && range.getQualityValue() > 0) return true;
+            }
+            return false;
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+    }
+
+    /** The content hash for content-addressed files; name, size and mtime for legacy ones. */
+    private static String etagBase(Path original, BasicFileAttributes attrs) {
+        String name = original.getFileName().toString();
+        int dot = name.indexOf('.');
+        String stem = dot < 0 ? name : name.substring(0, dot);
+        if (ContentAddressedImageStorage.hashOf("/images/" + name) != null) return stem;
+        return stem + "-" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(attrs.lastModifiedTime().toMillis());
+    }
+
+    private static BasicFileAttributes attributes(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,312 @@
+package com.convergex.backend.service.images;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Generates the {@link ImageVariant} renditions of uploaded images on a bounded worker pool.
+ *
+ * Decoding uses source subsampling, so even a 200MB upload is never inflated to full resolution.
+ * Every variant is re-encoded from pixels only, which drops EXIF (GPS, camera serials) and other
+ * metadata; the EXIF orientation is applied to the pixels first so phone photos stay upright.
+ * When the queue is full new work is dropped rather than blocking uploads; anything without
+ * variants is picked up by the sweep at the next startup, and until then the original is served.
+ * An original that cannot be decoded (a WebP stored before those were rejected, a corrupt file)
+ * gets an empty "{@value #UNDECODABLE_SUFFIX}" marker, so the sweep stops retrying it and its
+ * variant URLs serve the original as final.
+ */
+@Service
+public class ImageProcessingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageProcessingService.class);
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    public static final String UNDECODABLE_SUFFIX = ".undecodable";
+
+    @Value("${app.upload.dir}")
+    private String uploadDir;
+
+    @Value("${app.images.workers:2}")
+    private int workers;
+
+    @Value("${app.images.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-worker-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1); // request threads come first
+                    return t;
+                },
+                (r, pool) -> logger.warn("ImageProcessingService: Queue full, deferring an image to the next startup sweep."));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Queues variant generation for a durably written original. Never blocks. */
+    public void submit(Path original) {
+        executor.execute(() -> process(original));
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /** Re-queues originals that have no variants yet (crash, full queue, or uploads from before this pipeline). */
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweep() {
+        Path dir = Paths.get(uploadDir);
+        if (!Files.isDirectory(dir)) return;
+        int queued = 0;
+        // Depth 3 covers legacy flat uploads and the ab/cd/ shards of content-addressed ones
+        try (Stream<Path> files = Files.walk(dir, 3)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(".") || ImageVariant.ofFileName(name) != null || ImageType.fromFileName(name) == null) continue;
+                if (!Files.exists(variantPath(file, ImageVariant.THUMB)) && !Files.exists(undecodableMarker(file))) {
+                    submit(file);
+                    queued++;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("ImageProcessingService: Startup sweep failed: {}", e.getMessage());
+        }
+        if (queued > 0) {
+            logger.info("ImageProcessingService: Queued {} images without variants.", queued);
+        }
+    }
+
+    public static Path variantPath(Path original, ImageVariant variant) {
+        return original.resolveSibling(original.getFileName() + variant.getSuffix());
+    }
+
+    public static Path undecodableMarker(Path original) {
+        return original.resolveSibling(original.getFileName() + UNDECODABLE_SUFFIX);
+    }
+
+    /** Writes every variant of one original; THUMB is written last and marks the set as complete. */
+    void process(Path original) {
+        long start = System.currentTimeMillis();
+        try {
+            BufferedImage source;
+            try {
+                source = decode(original, ImageVariant.FULL.getMaxWidth());
+            } catch (IIOException | RuntimeException e) {
+                source = null; // malformed content; other IOExceptions are retried by the next sweep
+            }
+            if (source == null) {
+                logger.warn("ImageProcessingService: Cannot decode {}, serving the original only.", original.getFileName());
+                Files.write(undecodableMarker(original), new byte[0]);
+                return;
+            }
+            source = orient(source, ExifOrientation.read(original));
+
+            BufferedImage current = source;
+            for (ImageVariant variant : new ImageVariant[]{ImageVariant.FULL, ImageVariant.CARD, ImageVariant.THUMB}) {
+                current = scaleToWidth(current, variant.getMaxWidth()); // each step starts from the previous, smaller one
+                writeJpeg(current, variantPath(original, variant));
+            }
+            logger.debug("ImageProcessingService: Processed {} in {} ms.", original.getFileName(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.warn("ImageProcessingService: Failed to process {}: {}", original.getFileName(), e.getMessage());
+        }
+    }
+
+    /** Decodes with subsampling so the decoded raster is at most about twice {@code targetWidth} wide. */
+    static BufferedImage decode(Path file, int targetWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (targetWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Applies an EXIF orientation (1-8) to the pixels. */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) return image;
+        int w = image.getWidth(), h = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, h); t.scale(1, -1); }
+            case 5 -> { t.rotate(Math.PI / 2); t.scale(1, -1); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.scale(-1, 1); t.translate(-h, 0); t.translate(0, w); t.rotate(-Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.drawImage(image, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /**
+     * Downscales to at most {@code maxWidth} (never upscales) into an opaque RGB image, halving
+     * repeatedly first so bilinear filtering does not alias. Transparent areas become white.
+     */
+    static BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+        int width = image.getWidth(), height = image.getHeight();
+        int targetWidth = Math.min(width, maxWidth);
+        int targetHeight = Math.max(1, (int) Math.round(height * (targetWidth / (double) width)));
+
+        BufferedImage current = image;
+        int w = width, h = height;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, w, h);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    /** Encodes without metadata into a temp file, then renames it into place so readers never see a partial file. */
+    static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** Minimal EXIF reader: finds the Orientation tag in a JPEG's APP1 segment. */
+    static final class ExifOrientation {
+
+        private static final int SCAN_LIMIT = 128 * 1024;
+
+        static int read(Path file) {
+            try (InputStream in = Files.newInputStream(file)) {
+                byte[] b = in.readNBytes(SCAN_LIMIT);
+                if (b.length < 4 || (b[0] & 0xFF) != 0xFF || (b[1] & 0xFF) != 0xD8) return 1;
+                int pos = 2;
+                while (pos + 4 <= b.length && (b[pos] & 0xFF) == 0xFF) {
+                    int marker = b[pos + 1] & 0xFF;
+                    int length = ((b[pos + 2] & 0xFF) << 8) | (b[pos + 3] & 0xFF);
+                    if (marker == 0xDA) break; // start of scan: no more metadata segments
+                    if (marker == 0xE1 && pos + 10 <= b.length
+                            && b[pos + 4] == 'E' && b[pos + 5] == 'x' && b[pos + 6] == 'i' && b[pos + 7] == 'f') {
+                        return fromTiff(b, pos + 10, Math.min(b.length, pos + 2 + length));
+                    }
+                    pos += 2 + length;
+                }
+            } catch (IOException | RuntimeException e) {
+                // Unreadable metadata just means no rotation
+            }
+            return 1;
+        }
+
+        private static int fromTiff(byte[] b, int tiff, int end) {
+            boolean little = b[tiff] == 'I';
+            int ifd = tiff + readInt(b, tiff + 4, little);
+            if (ifd + 2 > end) return 1;
+            int entries = readShort(b, ifd, little);
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (entry + 12 > end) break;
+                if (readShort(b, entry, little) == 0x0112) {
+                    return readShort(b, entry + 8, little);
+                }
+            }
+            return 1;
+        }
+
+        private static int readShort(byte[] b, int at, boolean little) {
+            int a = b[at] & 0xFF, c = b[at + 1] & 0xFF;
+            return little ? (c << 8) | a : (a << 8) | c;
+        }
+
+        private static int readInt(byte[] b, int at, boolean little) {
+            int v = 0;
+            for (int i = 0; i < 4; i++) {
+                int shift = little ? 8 * i : 8 * (3 - i);
+                v |= (b[at + i] & 0xFF) << shift;
+            }
+            return v;
+        }
+    }
+}
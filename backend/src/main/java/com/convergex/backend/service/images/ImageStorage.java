@@ -0,0 +1,27 @@
+package com.convergex.backend.service.images;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Where uploaded images live. Every URL returned by {@link #store} holds one reference that the
+ * caller hands back with {@link #release} when the event image or profile picture goes away;
+ * implementations reclaim storage that is no longer referenced.
+ */
+public interface ImageStorage {
+
+    /** Stores an upload and returns the public URL of the original, holding one reference to it. */
+    String store(MultipartFile file) throws IOException;
+
+    /** Drops one reference. URLs this storage did not issue are ignored. */
+    void release(String url);
+
+    default void release(Collection<String> urls) {
+        if (urls == null) return;
+        for (String url : urls) {
+            release(url);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.convergex.backend.service.images;
+
+import javax.imageio.ImageIO;
+import java.util.Locale;
+
+/**
+ * Image formats accepted for upload, recognised by their magic bytes rather than the client's
+ * file name or content type, so nothing but images ever lands in the upload directory.
+ * Only formats ImageIO can decode are accepted, since every upload must be re-encoded into
+ * metadata-free variants; WebP has no JDK decoder and is only served for files stored earlier.
+ */
+public enum ImageType {
+    JPEG(".jpg", "image/jpeg"),
+    PNG(".png", "image/png"),
+    GIF(".gif", "image/gif"),
+    WEBP(".webp", "image/webp");
+
+    public static final int HEADER_BYTES = 12;
+
+    private final String extension;
+    private final String mediaType;
+    private final boolean decodable;
+
+    ImageType(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+        this.decodable = ImageIO.getImageReadersByMIMEType(mediaType).hasNext();
+    }
+
+    public String getExtension() { return extension; }
+    public String getMediaType() { return mediaType; }
+
+    /** Whether an ImageIO reader is installed for this format, i.e. whether uploads of it are accepted. */
+    public boolean isDecodable() { return decodable; }
+
+    /** Returns the type for the first {@link #HEADER_BYTES} bytes of a file, or null if it is not a supported image. */
+    public static ImageType sniff(byte[] head) {
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) return JPEG;
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return PNG;
+        if (startsWith(head, 0, 'G', 'I', 'F', '8')) return GIF;
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) return WEBP;
+        return null;
+    }
+
+    /** Matches stored originals by extension ("abc.jpeg" from before uploads were sniffed included). */
+    public static ImageType fromFileName(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) return JPEG;
+        if (lower.endsWith(".png")) return PNG;
+        if (lower.endsWith(".gif")) return GIF;
+        if (lower.endsWith(".webp")) return WEBP;
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int... expected) {
+        if (head.length < offset + expected.length) return false;
+        for (int i = 0; i < expected.length; i++) {
+            if ((head[offset + i] & 0xFF) != expected[i]) return false;
+        }
+        return true;
+    }
+}
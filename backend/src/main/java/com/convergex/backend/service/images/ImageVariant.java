@@ -0,0 +1,51 @@
+package com.convergex.backend.service.images;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resized JPEG renditions generated for every uploaded image. A variant lives next to its original
+ * as {@code <original>.<name>.jpg}, so its URL is derived from the stored original URL and no
+ * extra column is needed.
+ */
+public enum ImageVariant {
+    THUMB("thumb", 320),
+    CARD("card", 800),
+    FULL("full", 1600);
+
+    private final String name;
+    private final int maxWidth;
+
+    ImageVariant(String name, int maxWidth) {
+        this.name = name;
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() { return maxWidth; }
+
+    public String getSuffix() { return "." + name + ".jpg"; }
+
+    /** URL of this variant for a stored original URL; null stays null. */
+    public String urlFor(String originalUrl) {
+        return originalUrl == null ? null : originalUrl + getSuffix();
+    }
+
+    public List<String> urlsFor(List<String> originalUrls) {
+        return originalUrls == null ? null : originalUrls.stream().map(this::urlFor).collect(Collectors.toList());
+    }
+
+    /** The stored original URL for a variant URL (as echoed back by clients); originals are returned unchanged. */
+    public static String originalOf(String url) {
+        if (url == null) return null;
+        ImageVariant variant = ofFileName(url);
+        return variant == null ? url : url.substring(0, url.length() - variant.getSuffix().length());
+    }
+
+    /** The variant a file name belongs to, or null for originals. */
+    public static ImageVariant ofFileName(String fileName) {
+        for (ImageVariant variant : values()) {
+            if (fileName.endsWith(variant.getSuffix())) return variant;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,547 @@
+package com.convergex.backend.service.search;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.EventSearchResult;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.service.images.ImageVariant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over event title, description, location and club name, ranked with BM25.
+ *
+ * Fields are weighted before scoring (a title hit counts more than a description hit), which is the
+ * usual BM25F simplification. As in Lucene's common-terms query, very frequent terms are ignored
+ * whenever the query also contains a selective term.
+ *
+ * Documents live in reusable integer slots, so postings are two primitive arrays per term, kept in
+ * slot order. Multi-term queries are scored document-at-a-time with MaxScore pruning: once the top k
+ * is full, terms whose score bounds cannot lift a new document past the k-th score are only probed,
+ * never walked, so queries made of very common words do not score every posting. Queries allocate
+ * only per-term cursors, never per-document buffers. Ranked results of recent queries are cached
+ * until the next write.
+ *
+ * The index is loaded at startup while requests are already served, then kept current by
+ * {@link #upsert(Event)} and {@link #remove(Long)} from the event write paths. Events written by
+ * those paths during the load are skipped by the loader, whose copy may be older.
+ */
+@Service
+public class EventSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float CLUB_WEIGHT = 2f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    /** Terms found in more than this share of documents are skipped when the query also has rarer terms. */
+    private static final double COMMON_TERM_CUTOFF = 0.25;
+
+    public static final int MAX_RESULTS = 1000;
+    private static final int LOAD_BATCH = 1000;
+    private static final int RESULT_CACHE_SIZE = 1024;
+    /** Widens score bounds so float rounding can never make a real score exceed its bound. */
+    private static final float BOUND_SLACK = 1.0001f;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private float[] docLengths = new float[1024]; // by slot, kept primitive for the scoring loop
+    private long[] docIds = new long[1024];       // by slot, for tie-breaking without touching Doc
+    private final Map<Long, Integer> slotByEventId = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private double totalLength;
+
+    /** Events upserted or removed by the write paths while {@link #loadAll()} runs; null once it is done. */
+    private Set<Long> writtenDuringLoad = new HashSet<>();
+
+    /** Ranked hits of recent queries; cleared on every write so results are never stale. */
+    private final Map<String, List<EventSearchResult>> resultCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<EventSearchResult>> eldest) {
+            return size() > RESULT_CACHE_SIZE;
+        }
+    };
+
+    /** Builds the index from the database once the application is up. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        Long lastId = null;
+        while (true) {
+            Long afterId = lastId;
+            // One transaction per batch: image URLs are lazy (batch-fetched) and the persistence context stays small
+            List<Event> batch = transactionTemplate.execute(status -> {
+                List<Event> events = afterId == null
+                        ? eventRepository.findAllByOrderByIdDesc(Limit.of(LOAD_BATCH))
+                        : eventRepository.findByIdLessThanOrderByIdDesc(afterId, Limit.of(LOAD_BATCH));
+                events.forEach(event -> index(event, true));
+                return events;
+            });
+            if (batch.isEmpty()) break;
+            count += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        lock.writeLock().lock();
+        try {
+            writtenDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("EventSearchIndex: Indexed {} events in {} ms.", count, System.currentTimeMillis() - start);
+    }
+
+    /** Adds or replaces one event. */
+    public void upsert(Event event) {
+        index(event, false);
+    }
+
+    private void index(Event event, boolean fromLoader) {
+        Map<String, Float> weighted = new HashMap<>();
+        addField(weighted, event.getTitle(), TITLE_WEIGHT);
+        addField(weighted, event.getClub() != null ? event.getClub().getName() : null, CLUB_WEIGHT);
+        addField(weighted, event.getLocation(), LOCATION_WEIGHT);
+        addField(weighted, event.getDescription(), DESCRIPTION_WEIGHT);
+
+        float length = 0;
+        for (float tf : weighted.values()) length += tf;
+
+        List<String> images = event.getImageUrls();
+        Doc doc = new Doc(event.getId(), event.getTitle(), event.getEventDate(), event.getEventTime(),
+                event.getLocation(),
+                event.getClub() != null ? event.getClub().getId() : null,
+                event.getClub() != null ? event.getClub().getName() : null,
+                images == null || images.isEmpty() ? Collections.emptyList() : List.of(ImageVariant.THUMB.urlFor(images.get(0))),
+                weighted.keySet().toArray(new String[0]), length);
+
+        lock.writeLock().lock();
+        try {
+            if (!recordWrite(doc.eventId, fromLoader)) return;
+            removeLocked(event.getId());
+            int slot = freeSlots.isEmpty() ? docs.size() : freeSlots.pop();
+            if (slot == docs.size()) docs.add(doc); else docs.set(slot, doc);
+            if (slot >= docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, docLengths.length * 2);
+                docIds = Arrays.copyOf(docIds, docIds.length * 2);
+            }
+            docLengths[slot] = length;
+            docIds[slot] = doc.eventId;
+            slotByEventId.put(doc.eventId, slot);
+            totalLength += length;
+            for (Map.Entry<String, Float> e : weighted.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new Postings()).add(slot, e.getValue(), length);
+            }
+            clearResultCache();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            recordWrite(eventId, false);
+            removeLocked(eventId);
+            clearResultCache();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Returns false if the loader must skip this event because a write path got to it first. Caller holds the write lock. */
+    private boolean recordWrite(Long eventId, boolean fromLoader) {
+        if (writtenDuringLoad == null) return true;
+        if (fromLoader) return !writtenDuringLoad.contains(eventId);
+        writtenDuringLoad.add(eventId);
+        return true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByEventId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns hits {@code offset .. offset+limit} ranked by BM25 score, ties broken newest first.
+     * Every query term is optional (OR semantics); documents matching more terms naturally score higher.
+     */
+    public List<EventSearchResult> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        int wanted = Math.min(offset + limit, MAX_RESULTS);
+        if (terms.isEmpty() || wanted <= offset) return Collections.emptyList();
+
+        lock.readLock().lock();
+        try {
+            String cacheKey = wanted + "|" + String.join(" ", terms);
+            List<EventSearchResult> ranked;
+            synchronized (resultCache) {
+                ranked = resultCache.get(cacheKey);
+            }
+            if (ranked == null) {
+                ranked = rank(terms, wanted);
+                synchronized (resultCache) {
+                    resultCache.put(cacheKey, ranked);
+                }
+            }
+            return offset >= ranked.size() ? Collections.emptyList() : ranked.subList(offset, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Scores every matching document and returns the best {@code wanted}, best first. Caller holds the read lock. */
+    private List<EventSearchResult> rank(Set<String> terms, int wanted) {
+        int liveDocs = slotByEventId.size();
+        if (liveDocs == 0) return Collections.emptyList();
+
+        List<Postings> matched = new ArrayList<>(terms.size());
+        boolean hasSelectiveTerm = false;
+        for (String term : terms) {
+            Postings p = postings.get(term);
+            if (p == null) continue;
+            matched.add(p);
+            hasSelectiveTerm |= p.size <= liveDocs * COMMON_TERM_CUTOFF;
+        }
+        if (hasSelectiveTerm) {
+            // Near-stopwords add almost nothing to BM25 (idf ~ 0) but cost a scan of most of the index
+            matched.removeIf(p -> p.size > liveDocs * COMMON_TERM_CUTOFF);
+        }
+        if (matched.isEmpty()) return Collections.emptyList();
+
+        float lengthScale = (float) (K1 * B * liveDocs / totalLength);
+        float lengthBase = K1 * (1 - B);
+        TopK top = new TopK(wanted);
+
+        if (matched.size() == 1) {
+            // Single term: each posting is a complete score, so feed the heap directly
+            Postings p = matched.get(0);
+            float idf = idf(p, liveDocs);
+            for (int i = 0, n = p.size; i < n; i++) {
+                int slot = p.slots[i];
+                float tf = p.tfs[i];
+                top.offer(slot, idf * tf * (K1 + 1) / (tf + lengthBase + lengthScale * docLengths[slot]));
+            }
+        } else {
+            maxScore(matched, liveDocs, lengthBase, lengthScale, top);
+        }
+
+        int[] ranked = top.drainBestFirst();
+        float[] rankedScores = top.drainedScores;
+        List<EventSearchResult> results = new ArrayList<>(ranked.length);
+        for (int i = 0; i < ranked.length; i++) {
+            results.add(docs.get(ranked[i]).toResult(rankedScores[i]));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Document-at-a-time MaxScore (Turtle and Flood) over slot-ordered postings. Terms are ordered by
+     * their score upper bound; the lowest-bound terms whose bounds add up to less than the current
+     * k-th score are "non-essential": a document found only in them cannot enter the top k, so only
+     * the essential lists are walked and the others are probed (galloping) for their candidates,
+     * stopping as soon as the candidate can no longer reach the k-th score. Caller holds the read lock.
+     */
+    private void maxScore(List<Postings> matched, int liveDocs, float lengthBase, float lengthScale, TopK top) {
+        int m = matched.size();
+        Postings[] lists = new Postings[m];
+        float[] idfs = new float[m];
+        float[] bounds = new float[m];
+        for (int i = 0; i < m; i++) {
+            // insertion sort by bound, ascending; queries have a handful of terms
+            Postings p = matched.get(i);
+            float idf = idf(p, liveDocs);
+            float bound = idf * p.maxTf * (K1 + 1) / (p.maxTf + lengthBase + lengthScale * p.minDocLength) * BOUND_SLACK;
+            int j = i;
+            while (j > 0 && bounds[j - 1] > bound) {
+                lists[j] = lists[j - 1];
+                idfs[j] = idfs[j - 1];
+                bounds[j] = bounds[j - 1];
+                j--;
+            }
+            lists[j] = p;
+            idfs[j] = idf;
+            bounds[j] = bound;
+        }
+        float[] boundPrefix = new float[m]; // boundPrefix[i]: most that terms 0..i can add together
+        for (int i = 0; i < m; i++) boundPrefix[i] = bounds[i] + (i > 0 ? boundPrefix[i - 1] : 0f);
+
+        int[] cursors = new int[m];
+        int firstEssential = 0;
+        float threshold = Float.NEGATIVE_INFINITY; // k-th best score once the heap is full
+        while (firstEssential < m) {
+            int slot = Integer.MAX_VALUE;
+            for (int i = firstEssential; i < m; i++) {
+                if (cursors[i] < lists[i].size) slot = Math.min(slot, lists[i].slots[cursors[i]]);
+            }
+            if (slot == Integer.MAX_VALUE) break;
+
+            float norm = lengthBase + lengthScale * docLengths[slot];
+            float score = 0f;
+            for (int i = firstEssential; i < m; i++) {
+                Postings p = lists[i];
+                int at = cursors[i];
+                if (at < p.size && p.slots[at] == slot) {
+                    float tf = p.tfs[at];
+                    score += idfs[i] * tf * (K1 + 1) / (tf + norm);
+                    cursors[i] = at + 1;
+                }
+            }
+            boolean reachable = true;
+            for (int i = firstEssential - 1; i >= 0; i--) {
+                if (score + boundPrefix[i] < threshold) {
+                    reachable = false;
+                    break;
+                }
+                Postings p = lists[i];
+                int at = p.seek(cursors[i], slot);
+                cursors[i] = at;
+                if (at < p.size && p.slots[at] == slot) {
+                    float tf = p.tfs[at];
+                    score += idfs[i] * tf * (K1 + 1) / (tf + norm);
+                    cursors[i] = at + 1;
+                }
+            }
+            if (!reachable || score < threshold) continue;
+            top.offer(slot, score);
+            if (top.isFull()) {
+                threshold = top.minScore();
+                while (firstEssential < m && boundPrefix[firstEssential] < threshold) firstEssential++;
+            }
+        }
+    }
+
+    private void clearResultCache() {
+        synchronized (resultCache) {
+            resultCache.clear();
+        }
+    }
+
+    private static float idf(Postings p, int liveDocs) {
+        return (float) Math.log(1 + (liveDocs - p.size + 0.5) / (p.size + 0.5));
+    }
+
+    /**
+     * Bounded min-heap of (slot, score) in parallel primitive arrays, so keeping the best k of
+     * ~100k matches needs no boxing and usually just one comparison against the root.
+     * Ties go to the newer event (higher id). Only used under the read lock.
+     */
+    private final class TopK {
+        final int[] slots;
+        final float[] scores;
+        int size;
+        float[] drainedScores;
+
+        TopK(int capacity) {
+            slots = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int slot, float score) {
+            if (size < slots.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (less(slots[0], scores[0], slot, score)) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown();
+            }
+        }
+
+        boolean isFull() {
+            return size == slots.length;
+        }
+
+        float minScore() {
+            return scores[0];
+        }
+
+        int[] drainBestFirst() {
+            int[] out = new int[size];
+            drainedScores = new float[size];
+            for (int i = size - 1; i >= 0; i--) {
+                out[i] = slots[0];
+                drainedScores[i] = scores[0];
+                size--;
+                slots[0] = slots[size];
+                scores[0] = scores[size];
+                siftDown();
+            }
+            return out;
+        }
+
+        private boolean less(int slotA, float scoreA, int slotB, float scoreB) {
+            if (scoreA != scoreB) return scoreA < scoreB;
+            return docIds[slotA] < docIds[slotB];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(slots[i], scores[i], slots[parent], scores[parent])) return;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown() {
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1, smallest = i;
+                if (left < size && less(slots[left], scores[left], slots[smallest], scores[smallest])) smallest = left;
+                if (left + 1 < size && less(slots[left + 1], scores[left + 1], slots[smallest], scores[smallest])) smallest = left + 1;
+                if (smallest == i) return;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int s = slots[a]; slots[a] = slots[b]; slots[b] = s;
+            float f = scores[a]; scores[a] = scores[b]; scores[b] = f;
+        }
+    }
+
+    private void removeLocked(Long eventId) {
+        Integer slot = slotByEventId.remove(eventId);
+        if (slot == null) return;
+        Doc doc = docs.get(slot);
+        for (String term : doc.terms) {
+            Postings p = postings.get(term);
+            if (p != null && p.remove(slot) == 0) postings.remove(term);
+        }
+        totalLength -= doc.length;
+        docs.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static void addField(Map<String, Float> weighted, String text, float weight) {
+        for (String term : SearchTokenizer.tokenize(text)) {
+            weighted.merge(term, weight, Float::sum);
+        }
+    }
+
+    /**
+     * Posting list for one term: parallel arrays of document slot and weighted term frequency, in
+     * slot order. {@code maxTf} and {@code minDocLength} bound the term's BM25 score; removals leave
+     * them as they were, which only makes the bound looser.
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        float[] tfs = new float[4];
+        int size;
+        float maxTf;
+        float minDocLength = Float.MAX_VALUE;
+
+        void add(int slot, float tf, float docLength) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            int at = size;
+            if (size > 0 && slots[size - 1] > slot) { // a reused slot: insert in order
+                at = -Arrays.binarySearch(slots, 0, size, slot) - 1;
+                System.arraycopy(slots, at, slots, at + 1, size - at);
+                System.arraycopy(tfs, at, tfs, at + 1, size - at);
+            }
+            slots[at] = slot;
+            tfs[at] = tf;
+            size++;
+            maxTf = Math.max(maxTf, tf);
+            minDocLength = Math.min(minDocLength, docLength);
+        }
+
+        /** Removes the slot, keeping the order, and returns the remaining size. */
+        int remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                size--;
+                System.arraycopy(slots, at + 1, slots, at, size - at);
+                System.arraycopy(tfs, at + 1, tfs, at, size - at);
+            }
+            return size;
+        }
+
+        /** The first index at or after {@code from} whose slot is at least {@code slot}: gallop, then binary search. */
+        int seek(int from, int slot) {
+            if (from >= size || slots[from] >= slot) return from;
+            int low = from, step = 1; // slots[low] < slot
+            while (low + step < size && slots[low + step] < slot) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, size);
+            low++;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (slots[mid] < slot) low = mid + 1; else high = mid;
+            }
+            return low;
+        }
+    }
+
+    private static final class Doc {
+        final Long eventId;
+        final String title;
+        final String eventDate;
+        final String eventTime;
+        final String location;
+        final Long clubId;
+        final String clubName;
+        final List<String> imageUrls;
+        final String[] terms;
+        final float length;
+
+        Doc(Long eventId, String title, String eventDate, String eventTime, String location,
+            Long clubId, String clubName, List<String> imageUrls, String[] terms, float length) {
+            this.eventId = eventId;
+            this.title = title;
+            this.eventDate = eventDate;
+            this.eventTime = eventTime;
+            this.location = location;
+            this.clubId = clubId;
+            this.clubName = clubName;
+            this.imageUrls = imageUrls;
+            this.terms = terms;
+            this.length = length;
+        }
+
+        EventSearchResult toResult(float score) {
+            return new EventSearchResult(eventId, title, eventDate, eventTime, location, clubId, clubName, imageUrls, score);
+        }
+    }
+}
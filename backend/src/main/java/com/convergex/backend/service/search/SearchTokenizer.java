@@ -0,0 +1,52 @@
+package com.convergex.backend.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lowercase, lightly stemmed terms for the event search index.
+ * "Stemming-lite" only folds the common English inflections (plurals, -ing, -ed),
+ * so "workshops" matches "workshop" and "registered" matches "register". The same
+ * rules run on both the indexing and the query side.
+ */
+public final class SearchTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into",
+            "is", "it", "of", "on", "or", "the", "to", "with");
+
+    private SearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) return terms;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = lower.substring(start, i);
+                if (!STOP_WORDS.contains(word)) {
+                    terms.add(stem(word));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        int n = word.length();
+        if (n > 5 && word.endsWith("ing")) return word.substring(0, n - 3);
+        if (n > 4 && word.endsWith("ies")) return word.substring(0, n - 3) + "y";
+        if (n > 4 && word.endsWith("ed")) return word.substring(0, n - 2);
+        if (n > 4 && word.endsWith("es") && "sxzh".indexOf(word.charAt(n - 3)) >= 0) return word.substring(0, n - 2);
+        if (n > 3 && word.endsWith("s") && !word.endsWith("ss")) return word.substring(0, n - 1);
+        return word;
+    }
+}
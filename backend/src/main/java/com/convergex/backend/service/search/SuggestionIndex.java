@@ -0,0 +1,464 @@
+package com.convergex.backend.service.search;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.Suggestion;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over event titles, club names and event locations, kept in a radix trie.
+ *
+ * Every distinct phrase is inserted once per word it contains (up to {@link #MAX_KEYS_PER_PHRASE}),
+ * so "Main Hall" is found by both "mai" and "hal". Each trie node stores the best
+ * {@link #TOP_N} phrases of its subtree, which makes a lookup a walk down the prefix and nothing
+ * else. A phrase's weight is the number of events that use it (clubs also count once for
+ * existing), so shared venues and busy clubs rank above one-off titles.
+ *
+ * Writes update only the nodes on the paths of the keys they touch. The index is loaded at startup
+ * while requests are already served, then kept current from the event and club write paths, like
+ * {@link EventSearchIndex}; events those paths write during the load are skipped by the loader.
+ */
+@Service
+public class SuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    public static final int TOP_N = 10;
+    private static final int MAX_KEYS_PER_PHRASE = 8;
+    private static final int LOAD_BATCH = 1000;
+
+    enum Type { CLUB, LOCATION, EVENT } // declaration order breaks weight ties
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(new char[0]);
+    private final Map<String, Phrase> phrases = new HashMap<>();
+    private final Map<Long, Phrase[]> phrasesByEvent = new HashMap<>();
+    private final Set<Long> clubIds = new HashSet<>();
+
+    /** Events upserted or removed by the write paths while {@link #loadAll()} runs; null once it is done. */
+    private Set<Long> writtenDuringLoad = new HashSet<>();
+
+    /** Builds the trie from the database once the application is up. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.currentTimeMillis();
+        for (Club club : clubRepository.findAll()) {
+            addClub(club);
+        }
+        int count = 0;
+        List<Event> batch = eventRepository.findAllByOrderByIdDesc(Limit.of(LOAD_BATCH));
+        while (!batch.isEmpty()) {
+            for (Event event : batch) {
+                index(event, true);
+            }
+            count += batch.size();
+            Long lastId = batch.get(batch.size() - 1).getId();
+            batch = eventRepository.findByIdLessThanOrderByIdDesc(lastId, Limit.of(LOAD_BATCH));
+        }
+        lock.writeLock().lock();
+        try {
+            writtenDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("SuggestionIndex: Indexed {} phrases from {} events in {} ms.",
+                phraseCount(), count, System.currentTimeMillis() - start);
+    }
+
+    /** Registers a club so its name is suggested even before it has events. Repeated calls are no-ops. */
+    public void addClub(Club club) {
+        if (club == null || club.getId() == null) return;
+        lock.writeLock().lock();
+        try {
+            if (clubIds.add(club.getId())) {
+                acquire(Type.CLUB, club.getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds or replaces the title, club and location phrases of one event. */
+    public void upsert(Event event) {
+        index(event, false);
+    }
+
+    private void index(Event event, boolean fromLoader) {
+        lock.writeLock().lock();
+        try {
+            if (!recordWrite(event.getId(), fromLoader)) return;
+            Phrase[] added = {
+                    acquire(Type.EVENT, event.getTitle()),
+                    acquire(Type.CLUB, event.getClub() != null ? event.getClub().getName() : null),
+                    acquire(Type.LOCATION, event.getLocation())
+            };
+            // Acquire before release so phrases the edit kept are not dropped and re-inserted
+            release(phrasesByEvent.put(event.getId(), added));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            recordWrite(eventId, false);
+            release(phrasesByEvent.remove(eventId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Returns false if the loader must skip this event because a write path got to it first. Caller holds the write lock. */
+    private boolean recordWrite(Long eventId, boolean fromLoader) {
+        if (writtenDuringLoad == null) return true;
+        if (fromLoader) return !writtenDuringLoad.contains(eventId);
+        writtenDuringLoad.add(eventId);
+        return true;
+    }
+
+    public int phraseCount() {
+        lock.readLock().lock();
+        try {
+            return phrases.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns up to {@code limit} suggestions whose text has a word starting with {@code prefix}, best first. */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix, true);
+        if (key.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) return Collections.emptyList();
+                int common = commonPrefix(child.label, key, i);
+                if (common < child.label.length && i + common < key.length()) return Collections.emptyList();
+                node = child;
+                i += common;
+            }
+            Phrase[] top = node.top;
+            int n = Math.min(limit, top.length);
+            List<Suggestion> result = new ArrayList<>(n);
+            for (int j = 0; j < n; j++) {
+                result.add(top[j].suggestion);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Phrase bookkeeping (caller holds the write lock) ---
+
+    private Phrase acquire(Type type, String text) {
+        String normalized = normalize(text, false);
+        if (normalized.isEmpty()) return null;
+        String id = type.ordinal() + normalized;
+        Phrase phrase = phrases.get(id);
+        if (phrase == null) {
+            phrase = new Phrase(type, text.trim(), normalized, keysOf(normalized));
+            phrases.put(id, phrase);
+            phrase.weight = 1;
+            for (String key : phrase.keys) insert(key, phrase);
+        } else {
+            phrase.weight++;
+            for (String key : phrase.keys) refresh(key);
+        }
+        return phrase;
+    }
+
+    private void release(Phrase[] held) {
+        if (held == null) return;
+        for (Phrase phrase : held) {
+            if (phrase == null) continue;
+            phrase.weight--;
+            if (phrase.weight == 0) {
+                phrases.remove(phrase.type.ordinal() + phrase.normalized);
+                for (String key : phrase.keys) delete(key, phrase);
+            } else {
+                for (String key : phrase.keys) refresh(key);
+            }
+        }
+    }
+
+    /** The phrase itself plus the remainder starting at each later word: "main hall" -> ["main hall", "hall"]. */
+    private static String[] keysOf(String normalized) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0 && keys.size() < MAX_KEYS_PER_PHRASE; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    /**
+     * Lowercases and collapses every run of non-alphanumerics into one space. For prefixes a
+     * trailing separator is kept, so "main " only matches the whole word "main".
+     */
+    static String normalize(String text, boolean keepTrailingSpace) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && sb.length() > 0) sb.append(' ');
+                sb.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        if (keepTrailingSpace && pendingSpace && sb.length() > 0) sb.append(' ');
+        return sb.toString();
+    }
+
+    // --- Radix trie (caller holds the write lock) ---
+
+    private void insert(String key, Phrase phrase) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int idx = node.childIndex(key.charAt(i));
+            if (idx < 0) {
+                Node leaf = new Node(key.substring(i).toCharArray());
+                node.insertChild(-idx - 1, leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[idx];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length) {
+                // Split the edge: the shared part becomes a new inner node above the old child
+                Node mid = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                mid.children = new Node[]{child};
+                node.children[idx] = mid;
+                child = mid;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        node.addTerminal(phrase);
+        for (int j = path.size() - 1; j >= 0; j--) {
+            recompute(path.get(j));
+        }
+    }
+
+    private void delete(String key, Phrase phrase) {
+        List<Node> path = pathTo(key);
+        if (path == null) return;
+        path.get(path.size() - 1).removeTerminal(phrase);
+        for (int j = path.size() - 1; j > 0; j--) {
+            Node node = path.get(j);
+            Node parent = path.get(j - 1);
+            if (node.terminals.length == 0 && node.children.length == 0) {
+                parent.removeChild(node);
+            } else if (node.terminals.length == 0 && node.children.length == 1) {
+                // Keep the trie compact: fold a pass-through node into its only child
+                Node only = node.children[0];
+                char[] merged = Arrays.copyOf(node.label, node.label.length + only.label.length);
+                System.arraycopy(only.label, 0, merged, node.label.length, only.label.length);
+                only.label = merged;
+                parent.replaceChild(node, only);
+            } else {
+                recompute(node);
+            }
+        }
+        recompute(root);
+    }
+
+    /** Re-sorts the top lists on a key's path after a weight change. */
+    private void refresh(String key) {
+        List<Node> path = pathTo(key);
+        if (path == null) return;
+        for (int j = path.size() - 1; j >= 0; j--) {
+            recompute(path.get(j));
+        }
+    }
+
+    /** Nodes from the root to the node that terminates {@code key}, or null when the key is absent. */
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || commonPrefix(child.label, key, i) < child.label.length) return null;
+            node = child;
+            path.add(node);
+            i += child.label.length;
+        }
+        return path;
+    }
+
+    /** A node's top list is the best of its own phrases and its children's top lists. */
+    private static void recompute(Node node) {
+        Phrase[] best = new Phrase[TOP_N];
+        int n = 0;
+        for (Phrase p : node.terminals) n = offer(best, n, p);
+        for (Node child : node.children) {
+            for (Phrase p : child.top) n = offer(best, n, p);
+        }
+        node.top = n == best.length ? best : Arrays.copyOf(best, n);
+    }
+
+    private static int offer(Phrase[] best, int n, Phrase p) {
+        for (int i = 0; i < n; i++) {
+            if (best[i] == p) return n; // a phrase can reach a node through two of its keys
+        }
+        int i;
+        if (n < best.length) {
+            i = n++;
+        } else if (p.ranksBefore(best[n - 1])) {
+            i = n - 1;
+        } else {
+            return n;
+        }
+        while (i > 0 && p.ranksBefore(best[i - 1])) {
+            best[i] = best[i - 1];
+            i--;
+        }
+        best[i] = p;
+        return n;
+    }
+
+    private static int commonPrefix(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int i = 0;
+        while (i < max && label[i] == key.charAt(offset + i)) i++;
+        return i;
+    }
+
+    private static final Phrase[] NO_PHRASES = new Phrase[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final class Phrase {
+        final Type type;
+        final String normalized;
+        final String[] keys;
+        final Suggestion suggestion;
+        int weight;
+
+        Phrase(Type type, String text, String normalized, String[] keys) {
+            this.type = type;
+            this.normalized = normalized;
+            this.keys = keys;
+            this.suggestion = new Suggestion(text, type.name());
+        }
+
+        /** Heavier first, then clubs before venues before titles, then shorter, then alphabetical. */
+        boolean ranksBefore(Phrase other) {
+            if (weight != other.weight) return weight > other.weight;
+            if (type != other.type) return type.ordinal() < other.type.ordinal();
+            if (normalized.length() != other.normalized.length()) return normalized.length() < other.normalized.length();
+            return normalized.compareTo(other.normalized) < 0;
+        }
+    }
+
+    /** Trie node; {@code label} is the edge into it and children are sorted by their first label char. */
+    private static final class Node {
+        char[] label;
+        Node[] children = NO_CHILDREN;
+        Phrase[] terminals = NO_PHRASES;
+        Phrase[] top = NO_PHRASES;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        int childIndex(char c) {
+            int lo = 0, hi = children.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char m = children[mid].label[0];
+                if (m < c) lo = mid + 1;
+                else if (m > c) hi = mid - 1;
+                else return mid;
+            }
+            return -(lo + 1);
+        }
+
+        Node child(char c) {
+            int idx = childIndex(c);
+            return idx < 0 ? null : children[idx];
+        }
+
+        void insertChild(int at, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        void removeChild(Node child) {
+            int at = childIndex(child.label[0]);
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, at);
+            System.arraycopy(children, at + 1, shrunk, at, children.length - at - 1);
+            children = shrunk;
+        }
+
+        void replaceChild(Node old, Node replacement) {
+            children[childIndex(old.label[0])] = replacement;
+        }
+
+        void addTerminal(Phrase phrase) {
+            for (Phrase p : terminals) {
+                if (p == phrase) return;
+            }
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = phrase;
+        }
+
+        void removeTerminal(Phrase phrase) {
+            for (int i = 0; i < terminals.length; i++) {
+                if (terminals[i] == phrase) {
+                    Phrase[] shrunk = new Phrase[terminals.length - 1];
+                    System.arraycopy(terminals, 0, shrunk, 0, i);
+                    System.arraycopy(terminals, i + 1, shrunk, i, terminals.length - i - 1);
+                    terminals = shrunk;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.convergex.backend.service.stream;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.SavedEventRepository;
+import com.convergex.backend.repository.UserFollowsClubRepository;
+import com.convergex.backend.service.RegistrationCountService;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes catalog changes to connected clients over Server-Sent Events.
+ *
+ * Connections are async servlet requests, so an idle one holds no thread. Publishing never writes
+ * to a socket: it serializes the message once and appends it to each recipient's bounded queue,
+ * dropping that connection's oldest message when the queue is full. A small dispatcher pool drains
+ * the queues, with at most one drain task per connection, so a slow client can only delay its own
+ * messages (and, while a write blocks, one dispatcher thread). In virtual-thread mode each drain
+ * runs on its own virtual thread instead, so a blocked write holds no platform thread at all. The
+ * queue monitors are never held across I/O, so they cannot pin a carrier.
+ *
+ * Seat counts change far more often than anything else, so they are coalesced: register and cancel
+ * only mark the event dirty, and one "seats" message per dirty event is broadcast every
+ * app.stream.seats-interval-ms.
+ */
+@Service
+public class EventStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventStreamService.class);
+
+    @Value("${app.stream.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${app.stream.dispatchers:4}")
+    private int dispatchers;
+
+    @Value("${app.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserFollowsClubRepository userFollowsClubRepository;
+    @Autowired private SavedEventRepository savedEventRepository;
+    @Autowired private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired private RegistrationCountService registrationCountService;
+    @Autowired private EventCatalogCache eventCatalogCache;
+
+    private final ConcurrentHashMap<Long, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Set<Long> dirtySeats = ConcurrentHashMap.newKeySet();
+
+    @Autowired private Environment environment;
+
+    private Executor dispatcher;
+
+    @PostConstruct
+    void init() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            dispatcher = new VirtualThreadTaskExecutor("sse-dispatch-");
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Unbounded queue, but each connection has at most one pending drain task
+        dispatcher = new ThreadPoolExecutor(dispatchers, dispatchers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "sse-dispatch-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dispatcher instanceof ThreadPoolExecutor pool) pool.shutdownNow();
+        connectionsByUser.values().forEach(connections -> connections.forEach(c -> c.emitter.complete()));
+    }
+
+    /** Opens a stream for the user; the emitter is completed by timeout, disconnect or a failed write. */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+        connectionsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        connection.enqueue(new Message("ready", "{}"), bufferSize);
+        return emitter;
+    }
+
+    // --- Write-path hooks, called after the change is committed ---
+
+    /** Tells followers of the event's club about a new post. */
+    public void onEventCreated(Event event) {
+        if (connectionCount.get() == 0 || event.getClub() == null) return;
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("eventId", event.getId());
+        data.put("clubId", event.getClub().getId());
+        data.put("title", event.getTitle());
+        publish(userFollowsClubRepository.findUserIdsByClubId(event.getClub().getId()), "event-created", data);
+    }
+
+    /** Users who saved or registered for the event; read this before deleting it. */
+    public Set<Long> interestedUsers(Long eventId) {
+        if (connectionCount.get() == 0) return Set.of();
+        Set<Long> userIds = new HashSet<>(savedEventRepository.findUserIdsByEventId(eventId));
+        userIds.addAll(eventRegistrationRepository.findUserIdsByEventId(eventId));
+        return userIds;
+    }
+
+    public void onEventUpdated(Long eventId) {
+        publish(interestedUsers(eventId), "event-updated", Map.of("eventId", eventId));
+    }
+
+    public void onEventDeleted(Long eventId, Collection<Long> interestedUsers) {
+        dirtySeats.remove(eventId);
+        publish(interestedUsers, "event-deleted", Map.of("eventId", eventId));
+    }
+
+    /** Syncs the user's other devices. */
+    public void onFollowChanged(Long userId, Long clubId, boolean following) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("clubId", clubId);
+        data.put("following", following);
+        publish(List.of(userId), "follow-changed", data);
+    }
+
+    /** Marks the event's seat count as changed; broadcast on the next flush. */
+    public void onSeatsChanged(Long eventId) {
+        if (connectionCount.get() > 0) dirtySeats.add(eventId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stream.seats-interval-ms:1000}")
+    public void flushSeats() {
+        if (dirtySeats.isEmpty()) return;
+        List<Long> eventIds = List.copyOf(dirtySeats);
+        dirtySeats.removeAll(eventIds);
+        for (EventSnapshot event : eventCatalogCache.getAll(eventIds)) {
+            long registered = registrationCountService.get(event.id());
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("eventId", event.id());
+            data.put("registrationCount", registered);
+            data.put("seatsLeft", event.capacity() == null ? null : Math.max(0, event.capacity() - registered));
+            broadcast("seats", data);
+        }
+    }
+
+    /** Keeps idle connections (and any proxies in between) open, and finds dead ones by failing the write. */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Message heartbeat = new Message(null, null);
+        for (Set<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.enqueueIfIdle(heartbeat);
+            }
+        }
+    }
+
+    public int getConnectionCount() { return connectionCount.get(); }
+    public long getSentCount() { return sent.get(); }
+    public long getDroppedCount() { return dropped.get(); }
+
+    private void publish(Collection<Long> userIds, String name, Object data) {
+        if (userIds.isEmpty()) return;
+        Message message = null;
+        for (Long userId : userIds) {
+            Set<Connection> connections = connectionsByUser.get(userId);
+            if (connections == null) continue;
+            if (message == null) message = new Message(name, toJson(data)); // serialize once, only if someone listens
+            for (Connection connection : connections) {
+                connection.enqueue(message, bufferSize);
+            }
+        }
+    }
+
+    private void broadcast(String name, Object data) {
+        Message message = new Message(name, toJson(data));
+        for (Set<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.enqueue(message, bufferSize);
+            }
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) return;
+        connectionsByUser.computeIfPresent(connection.userId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+        connectionCount.decrementAndGet();
+    }
+
+    /** A named SSE event with pre-serialized JSON data; a null name is a heartbeat comment. */
+    private record Message(String name, String json) {}
+
+    private final class Connection {
+        final Long userId;
+        final SseEmitter emitter;
+        final ArrayDeque<Message> queue = new ArrayDeque<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Message message, int capacity) {
+            synchronized (queue) {
+                if (queue.size() >= capacity) {
+                    queue.pollFirst(); // drop-oldest: the newest state matters most
+                    dropped.incrementAndGet();
+                }
+                queue.addLast(message);
+            }
+            scheduleDrain();
+        }
+
+        void enqueueIfIdle(Message message) {
+            synchronized (queue) {
+                if (!queue.isEmpty()) return; // pending data keeps the connection alive anyway
+                queue.addLast(message);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Message message;
+                synchronized (queue) {
+                    message = queue.pollFirst();
+                    if (message == null) {
+                        draining.set(false);
+                        return; // enqueue after this point schedules a new drain
+                    }
+                }
+                try {
+                    if (message.name() == null) {
+                        emitter.send(SseEmitter.event().comment("hb"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(message.name()).data(message.json()));
+                    }
+                    sent.incrementAndGet();
+                } catch (Exception e) {
+                    logger.debug("EventStreamService: Dropping stream of user {}: {}", userId, e.getMessage());
+                    remove(this);
+                    emitter.completeWithError(e);
+                    synchronized (queue) {
+                        queue.clear();
+                        draining.set(false);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.convergex.backend.service.sync;
+
+import com.convergex.backend.model.ChangeKind;
+import com.convergex.backend.model.ChangeLogEntry;
+import com.convergex.backend.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only log of catalog and per-user changes behind /api/sync.
+ *
+ * Write paths append after their own change has committed. Appends are serialized and each one
+ * commits in its own transaction before the next id is handed out, so readers always see a gap-free
+ * prefix of the log and a token never skips an entry that commits later. Everything before the
+ * floor has been compacted away; tokens older than it (or from another log, e.g. before an
+ * in-memory database was reset) are answered with a full snapshot instead.
+ */
+@Service
+public class ChangeLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogService.class);
+
+    @Autowired private ChangeLogRepository changeLogRepository;
+
+    @Value("${app.sync.retention-ms:1209600000}")
+    private long retentionMs;
+
+    private final TransactionTemplate requiresNew;
+
+    // Held across the insert and its commit, so a lock rather than a monitor (virtual threads would pin)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile long head;     // id of the newest committed entry
+    private volatile long floor;    // oldest token that can still be answered with a delta
+    private volatile String logId;  // identifies this log inside tokens
+
+    public ChangeLogService(PlatformTransactionManager transactionManager) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        appendLock.lock();
+        try {
+            ChangeLogEntry baseline = changeLogRepository.findFirstByKind(ChangeKind.BASELINE).orElse(null);
+            if (baseline == null) {
+                // Existing rows predate the log, so only tokens issued from here on can be deltas
+                baseline = requiresNew.execute(status -> {
+                    ChangeLogEntry entry = changeLogRepository.save(new ChangeLogEntry(ChangeKind.BASELINE, null, 0L, false));
+                    entry.setSubjectId(entry.getId());
+                    return changeLogRepository.save(entry);
+                });
+            }
+            logId = Long.toString(baseline.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli(), 36);
+            floor = baseline.getSubjectId();
+            Long maxId = changeLogRepository.findMaxId();
+            head = maxId == null ? floor : maxId;
+        } finally {
+            appendLock.unlock();
+        }
+        logger.info("ChangeLogService: Log {} at {}, deltas answered from {}", logId, head, floor);
+    }
+
+    // --- Write-path hooks, called after the change is committed ---
+
+    public void onEventChanged(Long eventId) { append(ChangeKind.EVENT, null, eventId, false); }
+    public void onEventDeleted(Long eventId) { append(ChangeKind.EVENT, null, eventId, true); }
+
+    public void onSavedChanged(Long userId, Long eventId, boolean saved) {
+        append(ChangeKind.SAVED, userId, eventId, !saved);
+    }
+
+    public void onRegistrationChanged(Long userId, Long eventId, boolean registered) {
+        append(ChangeKind.REGISTRATION, userId, eventId, !registered);
+    }
+
+    public void onFollowChanged(Long userId, Long clubId, boolean following) {
+        append(ChangeKind.FOLLOW, userId, clubId, !following);
+    }
+
+    private void append(ChangeKind kind, Long userId, Long subjectId, boolean deleted) {
+        appendLock.lock();
+        try {
+            ChangeLogEntry entry = requiresNew.execute(status ->
+                    changeLogRepository.save(new ChangeLogEntry(kind, userId, subjectId, deleted)));
+            head = entry.getId();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // --- Reading ---
+
+    /** Token for "everything up to {@code seq} applied". */
+    public String tokenFor(long seq) {
+        return logId + "." + seq;
+    }
+
+    /**
+     * The sequence number a token stands for, or null if it cannot be answered with a delta:
+     * missing, malformed, from another log, older than the compaction floor or ahead of the head.
+     */
+    public Long resolve(String token) {
+        if (token == null || token.isBlank()) return null;
+        int dot = token.indexOf('.');
+        if (dot < 0 || !token.substring(0, dot).equals(logId)) return null;
+        try {
+            long seq = Long.parseLong(token.substring(dot + 1));
+            return seq >= floor && seq <= head ? seq : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long getHead() { return head; }
+    public long getFloor() { return floor; }
+
+    /** The user's and global entries after {@code since} up to {@code upTo}, oldest first. */
+    public List<ChangeLogEntry> read(Long userId, long since, long upTo, int limit) {
+        return changeLogRepository.findChanges(userId, since, upTo, PageRequest.of(0, limit));
+    }
+
+    // --- Compaction ---
+
+    @Scheduled(fixedDelayString = "${app.sync.compaction-interval-ms:3600000}",
+               initialDelayString = "${app.sync.compaction-interval-ms:3600000}")
+    public void compact() {
+        compactBefore(LocalDateTime.now().minus(Duration.ofMillis(retentionMs)));
+    }
+
+    /** Drops entries created before the cutoff and raises the floor past them. */
+    int compactBefore(LocalDateTime cutoff) {
+        Long throughId = changeLogRepository.findLastIdBefore(cutoff);
+        if (throughId == null) return 0;
+        // Raise the floor first: a delta started against the old floor could otherwise miss deleted entries
+        appendLock.lock();
+        try {
+            changeLogRepository.updateFloor(throughId);
+            floor = throughId;
+        } finally {
+            appendLock.unlock();
+        }
+        int deleted = changeLogRepository.deleteThrough(throughId);
+        logger.info("ChangeLogService: Compacted {} entries, deltas answered from {}", deleted, throughId);
+        return deleted;
+    }
+}
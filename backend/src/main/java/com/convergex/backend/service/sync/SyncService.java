@@ -0,0 +1,150 @@
+package com.convergex.backend.service.sync;
+
+import com.convergex.backend.model.ChangeKind;
+import com.convergex.backend.model.ChangeLogEntry;
+import com.convergex.backend.payload.SyncResponse;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.service.ViewerState;
+import com.convergex.backend.service.ViewerStateService;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import com.convergex.backend.service.catalog.EventSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Builds /api/sync responses from the {@link ChangeLogService} log.
+ *
+ * A delta collapses the entries after the client's token to the latest one per subject, so an
+ * event edited ten times is sent once, with its current state from the catalog cache. Tokens that
+ * cannot be answered with a delta start a full snapshot, paged newest first; its continuation
+ * tokens carry the snapshot's log position plus the last event id sent, and anything that changes
+ * while the client pages through arrives in the delta that follows.
+ */
+@Service
+public class SyncService {
+
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final char SNAPSHOT_SEPARATOR = '~';
+
+    @Autowired private ChangeLogService changeLogService;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventCatalogCache eventCatalogCache;
+    @Autowired private ViewerStateService viewerStateService;
+
+    public SyncResponse sync(Long userId, String token, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String logToken = token;
+        Long afterEventId = null;
+        int separator = token == null ? -1 : token.indexOf(SNAPSHOT_SEPARATOR);
+        if (separator >= 0) {
+            logToken = token.substring(0, separator);
+            afterEventId = parseId(token.substring(separator + 1));
+        }
+
+        Long since = changeLogService.resolve(logToken);
+        if (since == null) {
+            return snapshot(userId, changeLogService.getHead(), null, pageSize);
+        }
+        if (separator >= 0) {
+            return afterEventId == null
+                    ? snapshot(userId, changeLogService.getHead(), null, pageSize)
+                    : snapshot(userId, since, afterEventId, pageSize);
+        }
+        return delta(userId, since, pageSize);
+    }
+
+    /** One page of the whole catalog; the first page also carries the user's complete sets. */
+    private SyncResponse snapshot(Long userId, long seq, Long afterEventId, int pageSize) {
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Long> eventIds = afterEventId == null
+                ? eventRepository.findRecentIds(fetch)
+                : eventRepository.findRecentIdsBefore(afterEventId, fetch);
+        boolean hasMore = eventIds.size() > pageSize;
+        if (hasMore) eventIds = eventIds.subList(0, pageSize);
+
+        String token = changeLogService.tokenFor(seq);
+        if (hasMore) token += SNAPSHOT_SEPARATOR + eventIds.get(eventIds.size() - 1).toString();
+        // Continuation pages only add events, exactly like a delta would
+        SyncResponse response = new SyncResponse(token, afterEventId == null, hasMore);
+
+        ViewerState viewer = viewerStateService.load(userId);
+        response.setEvents(viewer.decorateSnapshots(eventCatalogCache.getAll(eventIds)));
+        if (afterEventId == null) {
+            response.getSavedEventIds().addAll(sorted(viewer.getSavedEventIds()));
+            response.getRegisteredEventIds().addAll(sorted(viewer.getRegisteredEventIds()));
+            response.getWaitlistedEventIds().addAll(sorted(viewer.getWaitlistedEventIds()));
+            response.getFollowedClubIds().addAll(sorted(viewer.getFollowedClubIds()));
+        }
+        return response;
+    }
+
+    private SyncResponse delta(Long userId, long since, int pageSize) {
+        long head = changeLogService.getHead();
+        List<ChangeLogEntry> entries = changeLogService.read(userId, since, head, pageSize + 1);
+        if (since < changeLogService.getFloor()) {
+            // Compacted while we were reading; some entries may be gone
+            return snapshot(userId, changeLogService.getHead(), null, pageSize);
+        }
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) entries = entries.subList(0, pageSize);
+        long upTo = hasMore ? entries.get(entries.size() - 1).getId() : head;
+        SyncResponse response = new SyncResponse(changeLogService.tokenFor(upTo), false, hasMore);
+
+        // Latest entry per subject wins
+        Map<ChangeKind, Map<Long, ChangeLogEntry>> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            latest.computeIfAbsent(entry.getKind(), kind -> new LinkedHashMap<>()).put(entry.getSubjectId(), entry);
+        }
+        Map<Long, ChangeLogEntry> events = latest.getOrDefault(ChangeKind.EVENT, Map.of());
+        Map<Long, ChangeLogEntry> registrations = latest.getOrDefault(ChangeKind.REGISTRATION, Map.of());
+
+        List<Long> changedEventIds = new ArrayList<>();
+        events.forEach((eventId, entry) -> (entry.isDeleted() ? response.getDeletedEventIds() : changedEventIds).add(eventId));
+        ViewerState viewer = changedEventIds.isEmpty() && registrations.isEmpty() ? null : viewerStateService.load(userId);
+        if (!changedEventIds.isEmpty()) {
+            List<EventSnapshot> snapshots = eventCatalogCache.getAll(changedEventIds);
+            response.setEvents(viewer.decorateSnapshots(snapshots));
+            if (snapshots.size() < changedEventIds.size()) {
+                // Deleted after the entry was written; its tombstone is in a later page
+                Set<Long> found = new TreeSet<>();
+                snapshots.forEach(snapshot -> found.add(snapshot.id()));
+                changedEventIds.stream().filter(id -> !found.contains(id)).forEach(response.getDeletedEventIds()::add);
+            }
+        }
+
+        latest.getOrDefault(ChangeKind.SAVED, Map.of()).forEach((eventId, entry) ->
+                (entry.isDeleted() ? response.getUnsavedEventIds() : response.getSavedEventIds()).add(eventId));
+        latest.getOrDefault(ChangeKind.FOLLOW, Map.of()).forEach((clubId, entry) ->
+                (entry.isDeleted() ? response.getUnfollowedClubIds() : response.getFollowedClubIds()).add(clubId));
+        // Registrations can also change status through waitlist promotion, so report the current one
+        registrations.keySet().forEach(eventId -> {
+            if (viewer.isRegistered(eventId)) response.getRegisteredEventIds().add(eventId);
+            else if (viewer.isWaitlisted(eventId)) response.getWaitlistedEventIds().add(eventId);
+            else response.getUnregisteredEventIds().add(eventId);
+        });
+        return response;
+    }
+
+    private static List<Long> sorted(Collection<Long> ids) {
+        return new ArrayList<>(new TreeSet<>(ids));
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
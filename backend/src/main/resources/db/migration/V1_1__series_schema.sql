@@ -0,0 +1,52 @@
+-- Tables and columns added on top of the baseline: event capacity and schedule, the registration
+-- waitlist, materialized timelines, the sync change log and content-addressed image blobs.
+
+-- Capacity (null: unlimited) and the normalized start/end; EventScheduleService backfills
+-- starts_at/ends_at of existing events from their date and time strings at startup
+alter table event add column capacity integer;
+alter table event add column starts_at timestamp(6) with time zone;
+alter table event add column ends_at timestamp(6) with time zone;
+create index idx_event_starts_at on event (starts_at);
+create index idx_event_club_starts_at on event (club_id, starts_at);
+
+-- There was no waitlist before, so every existing registration holds a seat
+alter table event_registrations add column status varchar(10) default 'CONFIRMED' not null
+    check (status in ('CONFIRMED', 'WAITLISTED'));
+alter table event_registrations alter column status drop default;
+
+-- Fan-out-on-write feed rows; TimelineRebuildRunner fills them for existing follows at startup
+create sequence user_timeline_seq start with 1 increment by 50;
+create table user_timeline (
+    id bigint not null,
+    user_id bigint not null,
+    event_id bigint not null,
+    club_id bigint not null,
+    primary key (id),
+    unique (user_id, event_id)
+);
+create index idx_timeline_user_club on user_timeline (user_id, club_id);
+create index idx_timeline_event on user_timeline (event_id);
+
+create sequence change_log_seq start with 1 increment by 50;
+create table change_log (
+    id bigint not null,
+    kind varchar(20) not null check (kind in ('BASELINE', 'EVENT', 'SAVED', 'REGISTRATION', 'FOLLOW')),
+    subject_id bigint not null,
+    user_id bigint,
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+create index idx_change_log_created on change_log (created_at);
+
+-- Uploads stored before this are not counted here; release() ignores URLs it did not issue
+create table image_blobs (
+    hash varchar(64) not null,
+    path varchar(255) not null,
+    size bigint not null,
+    ref_count integer not null,
+    created_at timestamp(6) not null,
+    released_at timestamp(6),
+    primary key (hash)
+);
+create index idx_image_blobs_gc on image_blobs (ref_count, released_at);
@@ -0,0 +1,119 @@
+-- Baseline: the schema as spring.jpa.hibernate.ddl-auto=update had been creating it before the
+-- schema was versioned. Databases created that way are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and get everything after it from V1_1 on; keep this file
+-- unchanged and put schema changes in new versions.
+
+create sequence admin_requests_seq start with 1 increment by 50;
+create sequence clubs_seq start with 1 increment by 50;
+create sequence event_registrations_seq start with 1 increment by 50;
+create sequence event_seq start with 1 increment by 50;
+create sequence roles_seq start with 1 increment by 50;
+create sequence saved_events_seq start with 1 increment by 50;
+create sequence user_follows_club_seq start with 1 increment by 50;
+create sequence users_seq start with 1 increment by 50;
+
+create table roles (
+    id bigint not null,
+    name varchar(20) check (name in ('ROLE_USER', 'ROLE_ADMIN', 'ROLE_SUPER_ADMIN')),
+    primary key (id)
+);
+
+create table users (
+    id bigint not null,
+    name varchar(50),
+    email varchar(100),
+    password varchar(120),
+    phone_number varchar(20),
+    department varchar(255),
+    year_of_study varchar(255),
+    profile_picture_url varchar(255),
+    primary key (id),
+    unique (email)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_user foreign key (user_id) references users,
+    constraint fk_user_roles_role foreign key (role_id) references roles
+);
+
+create table user_interests (
+    user_id bigint not null,
+    interest varchar(255),
+    constraint fk_user_interests_user foreign key (user_id) references users
+);
+
+create table clubs (
+    id bigint not null,
+    name varchar(255) not null,
+    description varchar(255),
+    club_logo_url varchar(255),
+    admin_user_id bigint,
+    primary key (id),
+    unique (name),
+    unique (admin_user_id),
+    constraint fk_clubs_admin foreign key (admin_user_id) references users
+);
+
+create table event (
+    id bigint not null,
+    title varchar(255),
+    description varchar(255),
+    event_date varchar(255),
+    event_time varchar(255),
+    location varchar(255),
+    club_id bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint fk_event_club foreign key (club_id) references clubs,
+    constraint fk_event_posted_by foreign key (user_id) references users
+);
+
+create table event_image_urls (
+    event_id bigint not null,
+    image_url varchar(255),
+    constraint fk_event_image_urls_event foreign key (event_id) references event
+);
+
+create table saved_events (
+    id bigint not null,
+    user_id bigint not null,
+    event_id bigint not null,
+    primary key (id),
+    unique (user_id, event_id),
+    constraint fk_saved_events_user foreign key (user_id) references users,
+    constraint fk_saved_events_event foreign key (event_id) references event
+);
+
+create table event_registrations (
+    id bigint not null,
+    user_id bigint not null,
+    event_id bigint not null,
+    primary key (id),
+    unique (user_id, event_id),
+    constraint fk_event_registrations_user foreign key (user_id) references users,
+    constraint fk_event_registrations_event foreign key (event_id) references event
+);
+
+create table user_follows_club (
+    id bigint not null,
+    user_id bigint not null,
+    club_id bigint not null,
+    primary key (id),
+    unique (user_id, club_id),
+    constraint fk_user_follows_club_user foreign key (user_id) references users,
+    constraint fk_user_follows_club_club foreign key (club_id) references clubs
+);
+
+create table admin_requests (
+    id bigint not null,
+    user_id bigint not null,
+    status varchar(10) not null check (status in ('PENDING', 'APPROVED', 'REJECTED')),
+    requested_at timestamp(6) not null,
+    reviewed_at timestamp(6),
+    primary key (id),
+    unique (user_id),
+    constraint fk_admin_requests_user foreign key (user_id) references users
+);
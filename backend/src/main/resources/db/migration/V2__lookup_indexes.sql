@@ -0,0 +1,27 @@
+-- Indexes for the repository queries (com.convergex.backend.repository). Composite indexes put
+-- the equality column first and the sort / keyset column next; the trailing columns cover the
+-- selected ids so the lookup never touches the table. QueryPlanTests EXPLAINs every query.
+
+-- Feed and keyset pages: order by id desc, optionally by club or poster
+create index idx_event_id_desc on event (id desc);
+create index idx_event_club_id on event (club_id, id desc);
+create index idx_event_user_id on event (user_id, id desc);
+create index idx_event_image_urls_event on event_image_urls (event_id, image_url);
+
+-- Saved list (user, newest first) and fan-out to savers of an event
+create index idx_saved_events_user_id on saved_events (user_id, id desc, event_id);
+create index idx_saved_events_event_user on saved_events (event_id, user_id);
+
+-- Registrations: my-events (user, status, newest first), seat counts and waitlist order per event
+create index idx_registrations_user_status_id on event_registrations (user_id, status, id desc, event_id);
+create index idx_registrations_event_status_id on event_registrations (event_id, status, id);
+create index idx_registrations_event_user on event_registrations (event_id, user_id);
+
+-- Followers of a club; a user's follows use the (user_id, club_id) unique index
+create index idx_user_follows_club_club_user on user_follows_club (club_id, user_id);
+
+create index idx_user_roles_user on user_roles (user_id, role_id);
+create index idx_user_interests_user on user_interests (user_id);
+create unique index idx_roles_name on roles (name);
+create index idx_admin_requests_status on admin_requests (status, requested_at);
+create index idx_change_log_kind on change_log (kind, id);
@@ -0,0 +1,7 @@
+-- Per-club feed delivery mode (TimelineService). Existing clubs start on fan-out-on-write; the
+-- startup reconcile moves the ones over app.timeline.fanout-max-followers to fan-out-on-read.
+alter table clubs add column fanout_on_read boolean default false not null;
+create index idx_clubs_fanout_on_read on clubs (fanout_on_read);
+
+-- Pruning a club's entries when it switches to fan-out-on-read
+create index idx_timeline_club on user_timeline (club_id);
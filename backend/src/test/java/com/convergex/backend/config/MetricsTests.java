@@ -0,0 +1,73 @@
+package com.convergex.backend.config;
+
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+class MetricsTests {
+
+	@Autowired private JwtUtils jwtUtils;
+	@Autowired private UserRepository userRepository;
+	@Autowired private TestRestTemplate restTemplate;
+	@LocalManagementPort private int managementPort;
+
+	@Test
+	void exposesRouteRepositoryPoolAndJwtMetricsAsPrometheusText() {
+		User student = userRepository.save(new User("Metrics Student", "metrics-student@tkmce.ac.in", "x", null, null, null));
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+		assertEquals(HttpStatus.OK, get("/api/events", auth).getStatusCode());
+		assertEquals(HttpStatus.UNAUTHORIZED, get("/api/events/feed", "Bearer not-a-jwt").getStatusCode());
+
+		ResponseEntity<String> response = restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		String scrape = response.getBody();
+
+		assertTrue(scrape.contains("http_server_requests_seconds_bucket{"), "route histogram buckets");
+		assertTrue(Pattern.compile("http_server_requests_seconds\\{[^}]*uri=\"/api/events\",quantile=\"0.99\"").matcher(scrape).find(),
+				"p99 for GET /api/events");
+		assertTrue(Pattern.compile("spring_data_repository_invocations_seconds_count\\{[^}]*method=\"findRecentIds\"[^}]*repository=\"EventRepository\"")
+				.matcher(scrape).find(), "repository method timer");
+		assertTrue(scrape.contains("hikaricp_connections_pending{"), "pool gauges");
+		assertTrue(scrape.contains("db_pool_saturation{"), "pool saturation");
+		assertTrue(scrape.contains("images_upload_seconds_count{application=\"convergex-backend\",outcome=\"stored\","), "upload timer");
+		assertTrue(counter(scrape, "jwt_validation_failures_total\\{application=\"convergex-backend\",type=\"malformed\",?\\}") >= 1,
+				"malformed JWT counted");
+	}
+
+	@Test
+	void actuatorIsNotReachableWithoutATokenOnTheApiPort() {
+		assertEquals(HttpStatus.UNAUTHORIZED, get("/actuator/prometheus", null).getStatusCode());
+		assertEquals(HttpStatus.UNAUTHORIZED, get("/actuator/health", null).getStatusCode());
+	}
+
+	private ResponseEntity<String> get(String path, String authorization) {
+		HttpHeaders headers = new HttpHeaders();
+		if (authorization != null) headers.set(HttpHeaders.AUTHORIZATION, authorization);
+		return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+	private static double counter(String scrape, String series) {
+		Matcher matcher = Pattern.compile(series + " (\\S+)").matcher(scrape);
+		return matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+	}
+}
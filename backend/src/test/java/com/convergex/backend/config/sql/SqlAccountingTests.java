@@ -0,0 +1,142 @@
+package com.convergex.backend.config.sql;
+
+import com.convergex.backend.model.*;
+import com.convergex.backend.repository.*;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.service.catalog.EventCatalogCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.diagnostics.sql.headers=true")
+@AutoConfigureMockMvc
+class SqlAccountingTests {
+
+	private static final int EVENTS = 30;
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private JwtUtils jwtUtils;
+	@Autowired private UserRepository userRepository;
+	@Autowired private RoleRepository roleRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private SavedEventRepository savedEventRepository;
+	@Autowired private EventRegistrationRepository eventRegistrationRepository;
+	@Autowired private UserFollowsClubRepository userFollowsClubRepository;
+	@Autowired private EventCatalogCache eventCatalogCache;
+
+	/** Budgets are per request and independent of how many events the page or the user has. */
+	@Test
+	void readEndpointsStayWithinTheirQueryBudgets() throws Exception {
+		User admin = new User("Budget Admin", "budget-admin@tkmce.ac.in", "x", null, null, null);
+		admin.setRoles(Set.of(roleRepository.findByName(ERole.ROLE_ADMIN).get()));
+		admin = userRepository.save(admin);
+		User student = userRepository.save(new User("Budget Student", "budget-student@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Budget Club");
+		club.setAdmin(admin);
+		club = clubRepository.save(club);
+		UserFollowsClub follow = new UserFollowsClub();
+		follow.setUser(student);
+		follow.setClub(club);
+		userFollowsClubRepository.save(follow);
+
+		Long lastEventId = null;
+		for (int i = 0; i < EVENTS; i++) {
+			Event event = new Event();
+			event.setTitle("Budget event " + i);
+			event.setCapacity(10);
+			event.setClub(club);
+			event.setPostedBy(admin);
+			event = eventRepository.save(event);
+			SavedEvent saved = new SavedEvent();
+			saved.setUser(student);
+			saved.setEvent(event);
+			savedEventRepository.save(saved);
+			EventRegistration registration = new EventRegistration();
+			registration.setUser(student);
+			registration.setEvent(event);
+			eventRegistrationRepository.save(registration);
+			lastEventId = event.getId();
+		}
+		String studentAuth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+		String adminAuth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(admin));
+
+		// The first request also loads the student's principal (user and roles), and every event is a cache miss
+		mockMvc.perform(get("/api/events?limit=" + EVENTS).header("Authorization", studentAuth))
+				.andExpect(status().isOk())
+				.andExpect(SqlBudget.atMost(7))
+				.andExpect(SqlBudget.noRepeatsOver(1));
+		mockMvc.perform(get("/api/events/" + lastEventId).header("Authorization", studentAuth))
+				.andExpect(SqlBudget.atMost(3));
+		mockMvc.perform(get("/api/events/feed").header("Authorization", studentAuth))
+				.andExpect(SqlBudget.atMost(5))
+				.andExpect(SqlBudget.noRepeatsOver(1));
+		mockMvc.perform(get("/api/users/me/my-events").header("Authorization", adminAuth))
+				.andExpect(SqlBudget.atMost(3));
+
+		// Saved and registered lists read ids only; the events come from the catalog, here cold, as projections
+		eventCatalogCache.invalidateAll();
+		mockMvc.perform(get("/api/events/saved?limit=" + EVENTS).header("Authorization", studentAuth))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(EVENTS))
+				.andExpect(jsonPath("$[0].clubName").value("Budget Club"))
+				.andExpect(jsonPath("$[0].postedBy").doesNotExist())
+				.andExpect(SqlBudget.atMost(6))
+				.andExpect(SqlBudget.noRepeatsOver(1));
+		eventCatalogCache.invalidateAll();
+		mockMvc.perform(get("/api/registrations/my-events?limit=" + EVENTS).header("Authorization", studentAuth))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(EVENTS))
+				.andExpect(jsonPath("$[0].registered").value(true))
+				.andExpect(SqlBudget.atMost(6))
+				.andExpect(SqlBudget.noRepeatsOver(1));
+	}
+
+	@Test
+	void diagnosticsModeReportsTheCountsInHeaders() throws Exception {
+		User student = userRepository.save(new User("Header Student", "sql-headers@tkmce.ac.in", "x", null, null, null));
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+
+		MvcResult result = mockMvc.perform(get("/api/events/feed").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Server-Timing", startsWith("db;dur=")))
+				.andReturn();
+		SqlStats stats = SqlBudget.statsOf(result);
+		assertTrue(stats.getStatements() > 0);
+		assertEquals(String.valueOf(stats.getStatements()), result.getResponse().getHeader(SqlAccountingFilter.STATEMENTS_HEADER));
+		assertEquals(String.valueOf(stats.getEntityLoads()), result.getResponse().getHeader(SqlAccountingFilter.ENTITY_LOADS_HEADER));
+	}
+
+	@Test
+	void repeatsOfOneQueryShapeAreGroupedRegardlessOfParameterListLength() {
+		SqlStats stats = SqlStats.begin();
+		try {
+			for (int i = 0; i < 12; i++) {
+				stats.onStatement("select e.id from event e where e.id=?");
+			}
+			stats.onStatement("select * from clubs where id in (?,?)");
+			stats.onStatement("select *  from clubs\n where id in (?, ?, ?)");
+		} finally {
+			SqlStats.end();
+		}
+		assertEquals(14, stats.getStatements());
+		assertEquals(Map.of("select e.id from event e where e.id=?", 12), stats.repeatedMoreThan(10));
+		assertEquals(2, stats.getShapes().get("select * from clubs where id in (?...)"));
+	}
+}
@@ -0,0 +1,43 @@
+package com.convergex.backend.config.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers for per-request query budgets, read from the {@link SqlStats} that
+ * {@link SqlAccountingFilter} leaves on the request:
+ *
+ *   mockMvc.perform(get("/api/events")).andExpect(SqlBudget.atMost(4)).andExpect(SqlBudget.noRepeatsOver(1));
+ */
+public final class SqlBudget {
+
+	private SqlBudget() {}
+
+	public static SqlStats statsOf(MvcResult result) {
+		SqlStats stats = (SqlStats) result.getRequest().getAttribute(SqlStats.REQUEST_ATTRIBUTE);
+		assertNotNull(stats, "No SqlStats on the request; is app.diagnostics.sql.enabled off?");
+		return stats;
+	}
+
+	/** At most {@code statements} statements for the whole request, authentication included. */
+	public static ResultMatcher atMost(int statements) {
+		return result -> {
+			SqlStats stats = statsOf(result);
+			assertTrue(stats.getStatements() <= statements,
+					() -> "Query budget of " + statements + " exceeded: " + stats);
+		};
+	}
+
+	/** No statement shape runs more than {@code times} times, i.e. no per-row query loop. */
+	public static ResultMatcher noRepeatsOver(int times) {
+		return result -> {
+			Map<String, Integer> repeated = statsOf(result).repeatedMoreThan(times);
+			assertTrue(repeated.isEmpty(), () -> "Statements repeated more than " + times + " times: " + repeated);
+		};
+	}
+}
@@ -0,0 +1,244 @@
+package com.convergex.backend.controller;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.ERole;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.RegistrationStatus;
+import com.convergex.backend.model.SavedEvent;
+import com.convergex.backend.model.User;
+import com.convergex.backend.payload.KeysetPage;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.ImageBlobRepository;
+import com.convergex.backend.repository.RoleRepository;
+import com.convergex.backend.repository.SavedEventRepository;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.service.RegistrationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class EventControllerTests {
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private JwtUtils jwtUtils;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+	@Autowired private RoleRepository roleRepository;
+	@Autowired private SavedEventRepository savedEventRepository;
+	@Autowired private EventRegistrationRepository eventRegistrationRepository;
+	@Autowired private RegistrationService registrationService;
+	@Autowired private ImageBlobRepository imageBlobRepository;
+
+	@Test
+	void unchangedPollsAreAnswered304WithoutAnyQuery() throws Exception {
+		User poster = userRepository.save(new User("Poller Admin", "etag-admin@tkmce.ac.in", "x", null, null, null));
+		User student = userRepository.save(new User("Poller", "etag-student@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("ETag Club");
+		club = clubRepository.save(club);
+		Event event = new Event();
+		event.setTitle("Polling Night");
+		event.setClub(club);
+		event.setPostedBy(poster);
+		event = eventRepository.save(event);
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+
+		List<String> urls = List.of("/api/events", "/api/events/feed", "/api/events/" + event.getId());
+		String etag = mockMvc.perform(get("/api/events").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Cache-Control", "private, no-cache"))
+				.andReturn().getResponse().getHeader("ETag");
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		for (int poll = 0; poll < 3; poll++) {
+			for (String url : urls) {
+				mockMvc.perform(get(url).header("Authorization", auth).header("If-None-Match", etag))
+						.andExpect(status().isNotModified());
+			}
+		}
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		// The student's own write invalidates their tag
+		mockMvc.perform(post("/api/events/" + event.getId() + "/save").header("Authorization", auth))
+				.andExpect(status().isOk());
+		String afterSave = mockMvc.perform(get("/api/events").header("Authorization", auth).header("If-None-Match", etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader("ETag");
+		assertNotEquals(etag, afterSave);
+	}
+
+	@Test
+	void rangeQueriesListEventsStartingInTheWindowInChronologicalOrder() throws Exception {
+		User poster = userRepository.save(new User("Range Admin", "range-admin@tkmce.ac.in", "x", null, null, null));
+		User student = userRepository.save(new User("Range Student", "range-student@tkmce.ac.in", "x", null, null, null));
+		Club chess = new Club();
+		chess.setName("Range Chess");
+		chess = clubRepository.save(chess);
+		Club drama = new Club();
+		drama.setName("Range Drama");
+		drama = clubRepository.save(drama);
+		// Created out of order, with a tie on Thursday broken by id
+		Long friday = scheduledEvent("Fri", "2031-03-14T12:00:00Z", chess, poster);
+		Long monday = scheduledEvent("Mon", "2031-03-10T04:30:00Z", drama, poster);
+		Long thursdayA = scheduledEvent("Thu A", "2031-03-13T10:00:00Z", chess, poster);
+		Long thursdayB = scheduledEvent("Thu B", "2031-03-13T10:00:00Z", drama, poster);
+		scheduledEvent("Next week", "2031-03-17T04:30:00Z", chess, poster);
+		scheduledEvent("Last week", "2031-03-09T10:00:00Z", chess, poster);
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+
+		// Dates are campus days: 10 March 00:00 IST is 9 March 18:30 UTC
+		String week = "/api/events?from=2031-03-10&to=2031-03-17";
+		mockMvc.perform(get(week).header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id").value(contains(monday.intValue(), thursdayA.intValue(), thursdayB.intValue(), friday.intValue())))
+				.andExpect(jsonPath("$[0].startsAt").value("2031-03-10T04:30:00Z"));
+		mockMvc.perform(get(week + "&clubId=" + chess.getId()).header("Authorization", auth))
+				.andExpect(jsonPath("$[*].id").value(contains(thursdayA.intValue(), friday.intValue())));
+
+		String cursor = mockMvc.perform(get(week + "&limit=2").header("Authorization", auth))
+				.andExpect(jsonPath("$[*].id").value(contains(monday.intValue(), thursdayA.intValue())))
+				.andReturn().getResponse().getHeader(KeysetPage.NEXT_CURSOR_HEADER);
+		mockMvc.perform(get(week + "&limit=2&cursor=" + cursor).header("Authorization", auth))
+				.andExpect(jsonPath("$[*].id").value(contains(thursdayB.intValue(), friday.intValue())));
+
+		mockMvc.perform(get("/api/events?from=someday").header("Authorization", auth))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void deletingASavedAndRegisteredEventRemovesItAndItsRows() throws Exception {
+		User poster = admin("delete-admin@tkmce.ac.in");
+		User student = userRepository.save(new User("Deleter", "delete-student@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Delete Club");
+		club = clubRepository.save(club);
+		Event event = new Event();
+		event.setTitle("Cancelled Night");
+		event.setClub(club);
+		event.setPostedBy(poster);
+		event = eventRepository.save(event);
+		SavedEvent saved = new SavedEvent();
+		saved.setUser(student);
+		saved.setEvent(event);
+		savedEventRepository.save(saved);
+		registrationService.register(event, student);
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(poster));
+
+		mockMvc.perform(delete("/api/events/" + event.getId()).header("Authorization", auth))
+				.andExpect(status().isOk());
+
+		assertFalse(eventRepository.existsById(event.getId()));
+		assertEquals(List.of(), savedEventRepository.findUserIdsByEventId(event.getId()));
+		assertEquals(List.of(), eventRegistrationRepository.findUserIdsByEventId(event.getId()));
+	}
+
+	@Test
+	void editingFromTheAppKeepsTheCapacityAndTheWaitlist() throws Exception {
+		User poster = admin("capacity-admin@tkmce.ac.in");
+		Club club = new Club();
+		club.setName("Capacity Club");
+		club = clubRepository.save(club);
+		Event event = new Event();
+		event.setTitle("Small Room");
+		event.setCapacity(1);
+		event.setClub(club);
+		event.setPostedBy(poster);
+		event = eventRepository.save(event);
+		for (int i = 0; i < 3; i++) {
+			registrationService.register(event, userRepository.save(new User("Seat " + i, "capacity-seat" + i + "@tkmce.ac.in", "x", null, null, null)));
+		}
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(poster));
+
+		// What the edit screen sends: no capacity field
+		String edit = "{\"title\":\"Small Room (moved)\",\"club\":{\"name\":\"Capacity Club\"},\"eventDate\":\"02/11/2031\",\"eventTime\":\"06:30 PM\"}";
+		mockMvc.perform(multipart(HttpMethod.PUT, "/api/events/" + event.getId()).param("event", edit).header("Authorization", auth))
+				.andExpect(status().isOk());
+
+		assertEquals(Integer.valueOf(1), eventRepository.findCapacityById(event.getId()));
+		assertEquals(1, eventRegistrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.CONFIRMED));
+		assertEquals(2, eventRegistrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.WAITLISTED));
+	}
+
+	@Test
+	void storedUploadsAreReleasedWhenALaterFileIsRejected() throws Exception {
+		User poster = admin("upload-admin@tkmce.ac.in");
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(poster));
+		byte[] png = png(0x3366cc);
+		byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.ISO_8859_1);
+		String create = "{\"title\":\"Poster Night\",\"club\":{\"name\":\"Upload Club\"}}";
+
+		mockMvc.perform(multipart("/api/events").file(new MockMultipartFile("files", "a.png", "image/png", png))
+						.file(new MockMultipartFile("files", "b.webp", "image/webp", webp))
+						.param("event", create).header("Authorization", auth))
+				.andExpect(status().isBadRequest());
+
+		String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png));
+		assertEquals(0, imageBlobRepository.findById(hash).orElseThrow().getRefCount());
+		assertEquals(List.of(), eventRepository.findByPostedBy(poster));
+	}
+
+	private static byte[] png(int rgb) throws IOException {
+		BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < 8; y++) {
+			for (int x = 0; x < 8; x++) image.setRGB(x, y, rgb ^ (x * 31 + y));
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private User admin(String email) {
+		User admin = new User("Admin", email, "x", null, null, null);
+		admin.setRoles(Set.of(roleRepository.findByName(ERole.ROLE_ADMIN).orElseThrow()));
+		return userRepository.save(admin);
+	}
+
+	private Long scheduledEvent(String title, String startsAt, Club club, User poster) {
+		Event event = new Event();
+		event.setTitle(title);
+		event.setStartsAt(Instant.parse(startsAt));
+		event.setEndsAt(Instant.parse(startsAt).plusSeconds(7200));
+		event.setClub(club);
+		event.setPostedBy(poster);
+		return eventRepository.save(event).getId();
+	}
+}
@@ -0,0 +1,94 @@
+package com.convergex.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.upload.dir=${java.io.tmpdir}/cx-image-serving-tests")
+@AutoConfigureMockMvc
+class ImageControllerTests {
+
+	private static final String HASH = "ab".repeat(32);
+	private static final String URL = "/images/ab/ab/" + HASH + ".png";
+
+	@Autowired private MockMvc mockMvc;
+
+	@Value("${app.upload.dir}")
+	private String uploadDir;
+
+	@BeforeEach
+	void writeImages() throws Exception {
+		Path original = Paths.get(uploadDir).resolve("ab/ab/" + HASH + ".png");
+		Files.createDirectories(original.getParent());
+		Files.write(original, "original-bytes".getBytes());
+		Files.write(original.resolveSibling(HASH + ".png.thumb.jpg"), "thumb-bytes".getBytes());
+		Files.deleteIfExists(original.resolveSibling(HASH + ".png.card.jpg"));
+	}
+
+	@Test
+	void servesImmutableStrongETagsAndRevalidatesWith304() throws Exception {
+		mockMvc.perform(get(URL))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"" + HASH + "\""))
+				.andExpect(header().string("Cache-Control", "public, max-age=31536000, immutable"))
+				.andExpect(content().string("original-bytes"));
+
+		mockMvc.perform(get(URL).header("If-None-Match", "W/\"other\", \"" + HASH + "\""))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void servesByteRanges() throws Exception {
+		mockMvc.perform(get(URL).header("Range", "bytes=0-7"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string("Content-Range", "bytes 0-7/14"))
+				.andExpect(content().string("original"));
+
+		mockMvc.perform(get(URL).header("Range", "bytes=-5"))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().string("bytes"));
+
+		mockMvc.perform(get(URL).header("Range", "bytes=99-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string("Content-Range", "bytes */14"));
+
+		mockMvc.perform(get(URL).header("Range", "bytes=0-7").header("If-Range", "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(content().string("original-bytes"));
+	}
+
+	@Test
+	void picksVariantsFromWidthHintAndAccept() throws Exception {
+		mockMvc.perform(get(URL).param("w", "200"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"" + HASH + ".thumb\""))
+				.andExpect(header().string("Content-Type", "image/jpeg"))
+				.andExpect(content().string("thumb-bytes"));
+
+		// CARD is not generated yet: the original stands in, but must be revalidated
+		mockMvc.perform(get(URL).param("w", "600"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Cache-Control", "public, no-cache"))
+				.andExpect(content().string("original-bytes"));
+
+		mockMvc.perform(get(URL).header("Accept", "image/png,image/*;q=0.8"))
+				.andExpect(header().string("Vary", "Accept"))
+				.andExpect(content().string("original-bytes"));
+
+		mockMvc.perform(get("/images/.upload-123.tmp")) // in-flight uploads are never served
+				.andExpect(status().isNotFound());
+	}
+}
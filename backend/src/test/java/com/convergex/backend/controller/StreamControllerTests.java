@@ -0,0 +1,68 @@
+package com.convergex.backend.controller;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import com.convergex.backend.service.stream.EventStreamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StreamControllerTests {
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private JwtUtils jwtUtils;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventStreamService eventStreamService;
+
+	@Test
+	void pushesFollowChangesToTheUsersOtherConnections() throws Exception {
+		User student = userRepository.save(new User("Listener", "stream-student@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Stream Club");
+		club = clubRepository.save(club);
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+
+		int before = eventStreamService.getConnectionCount();
+		MockHttpServletResponse stream = mockMvc.perform(get("/api/stream").header("Authorization", auth))
+				.andExpect(request().asyncStarted())
+				.andReturn().getResponse();
+		assertEquals(before + 1, eventStreamService.getConnectionCount());
+
+		mockMvc.perform(post("/api/follow/" + club.getId()).header("Authorization", auth))
+				.andExpect(status().isOk());
+
+		String expected = "event:follow-changed\ndata:{\"clubId\":" + club.getId() + ",\"following\":true}";
+		awaitContent(stream, expected);
+		assertTrue(stream.getContentAsString().startsWith("event:ready\n"));
+	}
+
+	@Test
+	void requiresAuthentication() throws Exception {
+		mockMvc.perform(get("/api/stream")).andExpect(status().isUnauthorized());
+	}
+
+	private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!response.getContentAsString().contains(expected)) {
+			assertTrue(System.currentTimeMillis() < deadline, "Timed out; stream so far: " + response.getContentAsString());
+			Thread.sleep(20);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.convergex.backend.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query method declared in this package, captures the SQL it sends (H2's query
+ * statistics) and fails if the EXPLAIN plan of any statement reads a table without an index.
+ * New repository methods are picked up automatically; if one fails here, add an index in a new
+ * db/migration script rather than loosening the test.
+ */
+@SpringBootTest
+class QueryPlanTests {
+
+	@Autowired private ApplicationContext context;
+	@Autowired private DataSource dataSource;
+	@Autowired private TransactionTemplate transactionTemplate;
+	@Autowired private EntityManager entityManager;
+
+	@Test
+	void everyRepositoryQueryIsServedByAnIndex() throws Exception {
+		Map<String, List<String>> statementsByMethod = new TreeMap<>();
+		Repositories repositories = new Repositories(context);
+		for (Class<?> domainType : repositories) {
+			RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+			Class<?> repositoryType = information.getRepositoryInterface();
+			if (!repositoryType.getPackageName().equals(QueryPlanTests.class.getPackageName())) continue;
+			Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+			for (Method method : repositoryType.getDeclaredMethods()) {
+				if (method.isDefault() || method.isSynthetic()) continue;
+				statementsByMethod.put(repositoryType.getSimpleName() + "." + method.getName(), capture(repository, method));
+			}
+		}
+		assertTrue(statementsByMethod.size() > 50, "found only " + statementsByMethod.keySet());
+
+		List<String> scans = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection()) {
+			statementsByMethod.forEach((method, statements) -> {
+				assertTrue(!statements.isEmpty(), method + " ran no SQL");
+				for (String sql : statements) {
+					String plan = explain(connection, sql);
+					if (plan.contains(".tableScan")) {
+						scans.add(method + ":\n    " + plan);
+					}
+				}
+			});
+		}
+		assertEquals(List.of(), scans, "Table scans:\n" + String.join("\n", scans));
+	}
+
+	/** The SELECT / UPDATE / DELETE statements the method sends, run in a transaction that is rolled back. */
+	private List<String> capture(Object repository, Method method) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("SET QUERY_STATISTICS TRUE");
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					status.setRollbackOnly();
+					try {
+						method.invoke(repository, arguments(method));
+						entityManager.flush();
+					} catch (IllegalAccessException | InvocationTargetException e) {
+						throw new AssertionError(method + " failed", e instanceof InvocationTargetException ? e.getCause() : e);
+					}
+				});
+				List<String> statements = new ArrayList<>();
+				try (ResultSet rows = statement.executeQuery("select SQL_STATEMENT from INFORMATION_SCHEMA.QUERY_STATISTICS")) {
+					while (rows.next()) {
+						String sql = rows.getString(1);
+						String verb = sql.trim().split("\\s+", 2)[0].toLowerCase();
+						if (sql.contains("INFORMATION_SCHEMA") || !List.of("select", "update", "delete").contains(verb)) continue;
+						statements.add(sql);
+					}
+				}
+				return statements;
+			} finally {
+				statement.execute("SET QUERY_STATISTICS FALSE"); // also clears them for the next method
+			}
+		}
+	}
+
+	/** Placeholder values; the plan depends only on the query shape. */
+	private Object[] arguments(Method method) {
+		Class<?>[] types = method.getParameterTypes();
+		Object[] arguments = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			Class<?> type = types[i];
+			if (type == Long.class || type == long.class) arguments[i] = 1L;
+			else if (type == Integer.class || type == int.class) arguments[i] = 1;
+			else if (type == Boolean.class || type == boolean.class) arguments[i] = true;
+			else if (type == String.class) arguments[i] = "x";
+			else if (type == Pageable.class) arguments[i] = PageRequest.of(0, 10);
+			else if (type == Limit.class) arguments[i] = Limit.of(10);
+			else if (Collection.class.isAssignableFrom(type)) arguments[i] = List.of(1L, 2L);
+			else if (type == Instant.class) arguments[i] = Instant.now();
+			else if (type == LocalDateTime.class) arguments[i] = LocalDateTime.now();
+			else if (type.isEnum()) arguments[i] = type.getEnumConstants()[0];
+			else if (type.isAnnotationPresent(Entity.class)) arguments[i] = entityManager.getReference(type, 1L);
+			else throw new IllegalArgumentException("No placeholder for " + type + " in " + method);
+		}
+		return arguments;
+	}
+
+	private static String explain(Connection connection, String sql) {
+		try (Statement statement = connection.createStatement(); ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+			plan.next();
+			return plan.getString(1).replaceAll("\\s+", " ");
+		} catch (SQLException e) {
+			throw new AssertionError("EXPLAIN failed for " + sql, e);
+		}
+	}
+}
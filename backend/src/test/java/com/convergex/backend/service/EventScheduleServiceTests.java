@@ -0,0 +1,71 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+class EventScheduleServiceTests {
+
+	@Autowired private EventScheduleService eventScheduleService;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+
+	@Test
+	void parsesTheDateAndTimeFormatsClientsSendAsCampusTime() {
+		EventScheduleService schedule = new EventScheduleService("Asia/Kolkata", Duration.ofHours(2));
+		Instant sixThirty = Instant.parse("2026-11-02T13:00:00Z");
+		Instant[] expected = {sixThirty, sixThirty.plus(Duration.ofHours(2))};
+
+		assertArrayEquals(expected, schedule.parse("02/11/2026", "06:30 PM"));
+		assertArrayEquals(expected, schedule.parse("2/11/2026", "6:30 pm"));
+		assertArrayEquals(expected, schedule.parse("2026-11-02", "18:30"));
+		assertArrayEquals(new Instant[] {Instant.parse("2026-11-01T18:30:00Z"), Instant.parse("2026-11-02T18:30:00Z")},
+				schedule.parse("2026-11-02", null)); // all day
+		assertNull(schedule.parse("next Tuesday", "18:30"));
+		assertEquals(Instant.parse("2026-11-01T18:30:00Z"), schedule.parseBound("2026-11-02"));
+		assertEquals(sixThirty, schedule.parseBound("2026-11-02T13:00:00Z"));
+	}
+
+	@Test
+	void backfillSchedulesEventsSavedWithOnlyTheirStrings() {
+		User poster = userRepository.save(new User("Backfill Admin", "backfill-admin@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Backfill Club");
+		club = clubRepository.save(club);
+		Event legacy = new Event();
+		legacy.setTitle("Legacy Night");
+		legacy.setEventDate("15/01/2027");
+		legacy.setEventTime("07:00 PM");
+		legacy.setClub(club);
+		legacy.setPostedBy(poster);
+		legacy = eventRepository.save(legacy);
+		Event unreadable = new Event();
+		unreadable.setTitle("Sometime Soon");
+		unreadable.setEventDate("TBA");
+		unreadable.setClub(club);
+		unreadable.setPostedBy(poster);
+		unreadable = eventRepository.save(unreadable);
+
+		eventScheduleService.backfill();
+
+		Event scheduled = eventRepository.findById(legacy.getId()).get();
+		assertEquals(Instant.parse("2027-01-15T13:30:00Z"), scheduled.getStartsAt());
+		assertEquals(Instant.parse("2027-01-15T15:30:00Z"), scheduled.getEndsAt());
+		assertNull(eventRepository.findById(unreadable.getId()).get().getStartsAt());
+	}
+}
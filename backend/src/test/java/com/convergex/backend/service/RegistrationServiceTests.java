@@ -0,0 +1,159 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.EventRegistration;
+import com.convergex.backend.model.RegistrationStatus;
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRegistrationRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class RegistrationServiceTests {
+
+	private static final int CAPACITY = 5;
+	private static final int STUDENTS = 40;
+
+	@Autowired private RegistrationService registrationService;
+	@Autowired private RegistrationCountService registrationCountService;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private EventRegistrationRepository eventRegistrationRepository;
+
+	@Test
+	void concurrentRegistrationsNeverOversellAndDoubleTapsAreRejected() throws Exception {
+		User poster = userRepository.save(new User("Poster", "seats-poster@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Seats Test Club");
+		club = clubRepository.save(club);
+		Event event = new Event();
+		event.setTitle("Fest");
+		event.setCapacity(CAPACITY);
+		event.setClub(club);
+		event.setPostedBy(poster);
+		Event saved = eventRepository.save(event);
+
+		List<User> students = new ArrayList<>();
+		for (int i = 0; i < STUDENTS; i++) {
+			students.add(new User("Seat " + i, "seat" + i + "@tkmce.ac.in", "x", null, null, null));
+		}
+		students = userRepository.saveAll(students);
+
+		// Every student taps twice, all at once
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		List<Callable<EventRegistration>> taps = new ArrayList<>();
+		for (User student : students) {
+			taps.add(() -> registrationService.register(saved, student));
+			taps.add(() -> registrationService.register(saved, student));
+		}
+		int accepted = 0;
+		for (Future<EventRegistration> result : pool.invokeAll(taps)) {
+			if (result.get() != null) accepted++;
+		}
+		pool.shutdown();
+
+		assertEquals(STUDENTS, accepted);
+		assertEquals(CAPACITY, confirmed(saved));
+		assertEquals(STUDENTS - CAPACITY, waitlisted(saved));
+		assertEquals(CAPACITY, registrationCountService.get(saved.getId()));
+
+		// A cancelled seat goes to the oldest waitlisted registration
+		Long oldestWaitlisted = eventRegistrationRepository.findWaitlistIds(saved.getId(),
+				PageRequest.of(0, 1)).get(0);
+		User confirmedStudent = students.stream()
+				.filter(s -> eventRegistrationRepository.findByUserAndEvent(s, saved).get().isConfirmed())
+				.findFirst().get();
+		assertTrue(registrationService.cancel(saved, confirmedStudent));
+		assertFalse(registrationService.cancel(saved, confirmedStudent));
+		assertEquals(RegistrationStatus.CONFIRMED, eventRegistrationRepository.findById(oldestWaitlisted).get().getStatus());
+		assertEquals(CAPACITY, confirmed(saved));
+
+		// Restart: counters are rebuilt from the table, then a capacity bump promotes from the waitlist
+		((Map<?, ?>) ReflectionTestUtils.getField(registrationService, "seatsByEvent")).clear();
+		User stillRegistered = students.stream().filter(s -> s != confirmedStudent).findFirst().get();
+		assertNull(registrationService.register(saved, stillRegistered));
+		registrationService.onCapacityChanged(saved.getId(), CAPACITY + 3);
+		assertEquals(CAPACITY + 3, confirmed(saved));
+		assertEquals(STUDENTS - 1 - CAPACITY - 3, waitlisted(saved));
+	}
+
+	@Test
+	void cancellingWhileBeingPromotedStillFreesTheSeat() throws Exception {
+		User poster = userRepository.save(new User("Race Poster", "race-poster@tkmce.ac.in", "x", null, null, null));
+		User holder = userRepository.save(new User("Race Holder", "race-holder@tkmce.ac.in", "x", null, null, null));
+		User waiting = userRepository.save(new User("Race Waiting", "race-waiting@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Race Club");
+		club = clubRepository.save(club);
+
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 100; round++) {
+				Event event = new Event();
+				event.setTitle("Race " + round);
+				event.setCapacity(1);
+				event.setClub(club);
+				event.setPostedBy(poster);
+				Event saved = eventRepository.save(event);
+				registrationService.register(saved, holder);
+				assertEquals(RegistrationStatus.WAITLISTED, registrationService.register(saved, waiting).getStatus());
+
+				// The capacity bump promotes the waitlisted user while they cancel
+				CountDownLatch start = new CountDownLatch(1);
+				Future<Boolean> cancel = pool.submit(() -> {
+					start.await();
+					return registrationService.cancel(saved, waiting);
+				});
+				Future<?> promote = pool.submit(() -> {
+					start.await();
+					registrationService.onCapacityChanged(saved.getId(), 2);
+					return null;
+				});
+				start.countDown();
+				assertTrue(cancel.get());
+				promote.get();
+
+				assertEquals(1, confirmed(saved), "round " + round);
+				assertEquals(1, seatsTaken(saved), "round " + round);
+				assertEquals(1, registrationCountService.get(saved.getId()), "round " + round);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private int seatsTaken(Event event) {
+		Map<?, ?> seatsByEvent = (Map<?, ?>) ReflectionTestUtils.getField(registrationService, "seatsByEvent");
+		return ((RegistrationService.Seats) seatsByEvent.get(event.getId())).taken.get();
+	}
+
+	private long confirmed(Event event) {
+		return eventRegistrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.CONFIRMED);
+	}
+
+	private long waitlisted(Event event) {
+		return eventRegistrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.WAITLISTED);
+	}
+}
@@ -0,0 +1,91 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.User;
+import com.convergex.backend.model.UserFollowsClub;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserFollowsClubRepository;
+import com.convergex.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TimelineServiceTests {
+
+	@Autowired private TimelineService timelineService;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private UserFollowsClubRepository userFollowsClubRepository;
+
+	@Test
+	void eventsPostedWhileAClubWasPopularStayInFeedsAfterItDropsBelowTheLimit() {
+		Object maxFollowers = ReflectionTestUtils.getField(timelineService, "fanoutMaxFollowers");
+		Object resumeFollowers = ReflectionTestUtils.getField(timelineService, "fanoutResumeFollowers");
+		ReflectionTestUtils.setField(timelineService, "fanoutMaxFollowers", 2L);
+		ReflectionTestUtils.setField(timelineService, "fanoutResumeFollowers", 1L);
+		try {
+			User poster = userRepository.save(new User("Fanout Admin", "fanout-admin@tkmce.ac.in", "x", null, null, null));
+			Club club = new Club();
+			club.setName("Fanout Club");
+			club = clubRepository.save(club);
+
+			List<User> fans = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				User fan = userRepository.save(new User("Fan " + i, "fanout-fan" + i + "@tkmce.ac.in", "x", null, null, null));
+				follow(fan, club);
+				fans.add(fan);
+			}
+			assertTrue(fanoutOnRead(club));
+
+			Event event = new Event();
+			event.setTitle("Popular Night");
+			event.setClub(club);
+			event.setPostedBy(poster);
+			event = eventRepository.save(event);
+			timelineService.onEventCreated(event); // not fanned out
+
+			User late = userRepository.save(new User("Late Fan", "fanout-late@tkmce.ac.in", "x", null, null, null));
+			follow(late, club); // no backfill while popular
+			assertEquals(List.of(event.getId()), feed(late, club));
+
+			for (User fan : fans) {
+				userFollowsClubRepository.delete(userFollowsClubRepository.findByUserAndClub(fan, club).orElseThrow());
+				timelineService.onUnfollow(fan.getId(), club.getId());
+			}
+			assertFalse(fanoutOnRead(club));
+			assertEquals(List.of(event.getId()), feed(late, club));
+		} finally {
+			ReflectionTestUtils.setField(timelineService, "fanoutMaxFollowers", maxFollowers);
+			ReflectionTestUtils.setField(timelineService, "fanoutResumeFollowers", resumeFollowers);
+		}
+	}
+
+	private void follow(User user, Club club) {
+		UserFollowsClub follow = new UserFollowsClub();
+		follow.setUser(user);
+		follow.setClub(club);
+		userFollowsClubRepository.save(follow);
+		timelineService.onFollow(user.getId(), club.getId());
+	}
+
+	private List<Long> feed(User user, Club club) {
+		return timelineService.readFeedIds(user.getId(), Set.of(club.getId()), null, 10);
+	}
+
+	private boolean fanoutOnRead(Club club) {
+		return clubRepository.findFanoutOnReadById(club.getId()).orElseThrow();
+	}
+}
@@ -0,0 +1,98 @@
+package com.convergex.backend.service;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.SavedEvent;
+import com.convergex.backend.model.User;
+import com.convergex.backend.model.UserFollowsClub;
+import com.convergex.backend.payload.EventDetailsResponse;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.SavedEventRepository;
+import com.convergex.backend.repository.UserFollowsClubRepository;
+import com.convergex.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ViewerStateServiceTests {
+
+	@Autowired private ViewerStateService viewerStateService;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private SavedEventRepository savedEventRepository;
+	@Autowired private UserFollowsClubRepository userFollowsClubRepository;
+	@Autowired private EntityManager entityManager;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void decoratingCostsThreeQueriesRegardlessOfCatalogSize() {
+		User viewer = userRepository.save(new User("Viewer", "viewer@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Viewer Test Club");
+		club = clubRepository.save(club);
+
+		assertEquals(3, queriesToDecorate(viewer, seed(viewer, club, 5)));
+		assertEquals(3, queriesToDecorate(viewer, seed(viewer, club, 200)));
+	}
+
+	@Test
+	void flagsReflectTheViewersRows() {
+		User viewer = userRepository.save(new User("Flags", "flags@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Flags Test Club");
+		club = clubRepository.save(club);
+		List<Event> events = seed(viewer, club, 2);
+
+		SavedEvent saved = new SavedEvent();
+		saved.setUser(viewer);
+		saved.setEvent(events.get(0));
+		savedEventRepository.save(saved);
+		UserFollowsClub follow = new UserFollowsClub();
+		follow.setUser(viewer);
+		follow.setClub(club);
+		userFollowsClubRepository.save(follow);
+
+		List<EventDetailsResponse> responses = viewerStateService.load(viewer.getId()).decorate(events);
+		assertTrue(responses.get(0).isSaved());
+		assertFalse(responses.get(1).isSaved());
+		assertFalse(responses.get(0).isRegistered());
+		assertTrue(responses.get(1).isFollowed());
+	}
+
+	private List<Event> seed(User poster, Club club, int count) {
+		List<Event> events = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Event event = new Event();
+			event.setTitle("Event " + i);
+			event.setClub(club);
+			event.setPostedBy(poster);
+			event.setImageUrls(new ArrayList<>());
+			events.add(event);
+		}
+		return eventRepository.saveAll(events);
+	}
+
+	private long queriesToDecorate(User viewer, List<Event> events) {
+		entityManager.flush();
+		Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		viewerStateService.load(viewer.getId()).decorate(events);
+		return stats.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,83 @@
+package com.convergex.backend.service.catalog;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.User;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventCatalogCacheTests {
+
+	@Autowired private EventCatalogCache eventCatalogCache;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void servesRepeatReadsFromMemoryUntilInvalidated() {
+		List<Long> ids = createEvents("cache", 3);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		assertEquals(3, eventCatalogCache.getAll(ids).size());
+		statistics.clear();
+		List<EventSnapshot> again = eventCatalogCache.getAll(ids);
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals(ids, again.stream().map(EventSnapshot::id).toList());
+
+		Event event = eventRepository.findById(ids.get(1)).get();
+		event.setTitle("Renamed");
+		eventRepository.save(event);
+		eventCatalogCache.invalidate(event.getId());
+		assertEquals("Renamed", eventCatalogCache.get(event.getId()).title());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedOnceOverItsByteBudget() {
+		List<Long> ids = createEvents("evict", 4);
+		EventCatalogCache small = new EventCatalogCache(true, 3 * eventCatalogCache.get(ids.get(0)).estimatedBytes());
+		ReflectionTestUtils.setField(small, "eventRepository", eventRepository);
+
+		small.getAll(ids.subList(0, 3));
+		small.get(ids.get(0)); // touch: the oldest entry is now ids[1]
+		small.get(ids.get(3));
+
+		assertEquals(3, small.size());
+		assertEquals(1, small.getEvictionCount());
+		assertTrue(small.getWeightBytes() <= 3 * eventCatalogCache.get(ids.get(0)).estimatedBytes());
+		long misses = small.getMissCount();
+		small.get(ids.get(1));
+		assertEquals(misses + 1, small.getMissCount());
+	}
+
+	private List<Long> createEvents(String prefix, int count) {
+		User poster = userRepository.save(new User("Poster", prefix + "-poster@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName(prefix + " club");
+		club = clubRepository.save(club);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Event event = new Event();
+			event.setTitle("Event" + i); // same length, same estimated size
+			event.setClub(club);
+			event.setPostedBy(poster);
+			ids.add(eventRepository.save(event).getId());
+		}
+		return ids;
+	}
+}
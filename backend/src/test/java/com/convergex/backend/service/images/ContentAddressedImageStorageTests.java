@@ -0,0 +1,82 @@
+package com.convergex.backend.service.images;
+
+import com.convergex.backend.repository.ImageBlobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+		"app.upload.dir=${java.io.tmpdir}/cx-storage-tests",
+		"app.images.gc-grace-ms=0"
+})
+class ContentAddressedImageStorageTests {
+
+	@Autowired private ContentAddressedImageStorage storage;
+	@Autowired private ImageBlobRepository imageBlobRepository;
+
+	@Value("${app.upload.dir}")
+	private String uploadDir;
+
+	@Test
+	void identicalUploadsShareOneBlobThatIsCollectedAfterTheLastRelease() throws Exception {
+		byte[] poster = jpeg();
+		String first = storage.store(new MockMultipartFile("files", "a.jpg", "image/jpeg", poster));
+		String second = storage.store(new MockMultipartFile("files", "renamed.png", "image/png", poster));
+
+		assertEquals(first, second);
+		String hash = ContentAddressedImageStorage.hashOf(first);
+		assertTrue(first.matches("/images/[0-9a-f]{2}/[0-9a-f]{2}/" + hash + "\\.jpg"));
+		assertEquals(2, imageBlobRepository.findById(hash).get().getRefCount());
+		assertEquals(hash, ContentAddressedImageStorage.hashOf(ImageVariant.originalOf(ImageVariant.CARD.urlFor(first))));
+
+		Path file = Paths.get(uploadDir).resolve(first.substring("/images/".length()));
+		storage.release(first);
+		Thread.sleep(5);
+		storage.collectGarbage();
+		assertTrue(Files.exists(file), "still referenced by the second upload");
+
+		storage.release(second);
+		storage.release(second); // over-release is ignored
+		Thread.sleep(5);
+		storage.collectGarbage();
+		assertFalse(Files.exists(file));
+		assertFalse(imageBlobRepository.existsById(hash));
+	}
+
+	@Test
+	void rejectsContentThatIsNotAnImage() {
+		MockMultipartFile html = new MockMultipartFile("files", "x.jpg", "image/jpeg",
+				"<html><script>alert(1)</script>".getBytes(StandardCharsets.US_ASCII));
+		assertThrows(ResponseStatusException.class, () -> storage.store(html));
+	}
+
+	@Test
+	void rejectsFormatsThatCannotBeReEncoded() {
+		MockMultipartFile webp = new MockMultipartFile("files", "x.webp", "image/webp", ImageProcessingServiceTests.WEBP);
+		assertThrows(ResponseStatusException.class, () -> storage.store(webp));
+	}
+
+	private static byte[] jpeg() throws Exception {
+		BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+		image.setRGB(1, 2, (int) System.nanoTime()); // distinct content per run
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpeg", out);
+		return out.toByteArray();
+	}
+}
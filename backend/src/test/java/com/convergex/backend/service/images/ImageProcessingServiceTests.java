@@ -0,0 +1,89 @@
+package com.convergex.backend.service.images;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageProcessingServiceTests {
+
+	static final byte[] WEBP = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.ISO_8859_1);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void writesUprightMetadataFreeVariantsNoWiderThanTheirLimit() throws Exception {
+		Path original = dir.resolve("poster.jpg");
+		Files.write(original, withExifOrientation(jpeg(2000, 1000), 6)); // stored sideways, "rotate 90 CW" tag
+
+		new ImageProcessingService().process(original);
+
+		assertSize(ImageVariant.FULL, original, 1000, 2000); // upright, never upscaled
+		assertSize(ImageVariant.CARD, original, 800, 1600);
+		assertSize(ImageVariant.THUMB, original, 320, 640);
+		byte[] thumb = Files.readAllBytes(ImageProcessingService.variantPath(original, ImageVariant.THUMB));
+		assertFalse(new String(thumb, StandardCharsets.ISO_8859_1).contains("Exif"));
+	}
+
+	@Test
+	void marksUndecodableOriginalsSoTheSweepSkipsThem() throws Exception {
+		Path original = Files.createDirectories(dir.resolve("ab/cd")).resolve("legacy.webp");
+		Files.write(original, WEBP);
+		ImageProcessingService service = new ImageProcessingService();
+		ReflectionTestUtils.setField(service, "uploadDir", dir.toString());
+
+		service.process(original);
+
+		assertTrue(Files.exists(ImageProcessingService.undecodableMarker(original)));
+		assertFalse(Files.exists(ImageProcessingService.variantPath(original, ImageVariant.THUMB)));
+		service.sweep(); // the worker pool is not started, so queueing the file again would throw
+	}
+
+	@Test
+	void sniffsTypeFromContentNotName() throws Exception {
+		assertEquals(ImageType.JPEG, ImageType.sniff(jpeg(10, 10)));
+		assertNull(ImageType.sniff("<html><script>".getBytes(StandardCharsets.US_ASCII)));
+		assertEquals(ImageType.WEBP, ImageType.sniff(WEBP));
+		assertFalse(ImageType.WEBP.isDecodable());
+	}
+
+	private static void assertSize(ImageVariant variant, Path original, int width, int height) throws Exception {
+		BufferedImage image = ImageIO.read(ImageProcessingService.variantPath(original, variant).toFile());
+		assertEquals(width, image.getWidth(), variant + " width");
+		assertEquals(height, image.getHeight(), variant + " height");
+	}
+
+	private static byte[] jpeg(int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", out);
+		return out.toByteArray();
+	}
+
+	/** Inserts a big-endian APP1/Exif segment holding only the Orientation tag right after SOI. */
+	private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+		byte[] app1 = {
+				(byte) 0xFF, (byte) 0xE1, 0, 34,
+				'E', 'x', 'i', 'f', 0, 0,
+				'M', 'M', 0, 42, 0, 0, 0, 8,
+				0, 1,
+				0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+				0, 0, 0, 0};
+		byte[] out = new byte[jpeg.length + app1.length];
+		System.arraycopy(jpeg, 0, out, 0, 2);
+		System.arraycopy(app1, 0, out, 2, app1.length);
+		System.arraycopy(jpeg, 2, out, 2 + app1.length, jpeg.length - 2);
+		return out;
+	}
+}
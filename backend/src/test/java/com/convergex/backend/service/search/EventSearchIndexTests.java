@@ -0,0 +1,83 @@
+package com.convergex.backend.service.search;
+
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.EventSearchResult;
+import com.convergex.backend.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTests {
+
+	private static Event event(long id, String title) {
+		Event e = new Event();
+		e.setId(id);
+		e.setTitle(title);
+		return e;
+	}
+
+	private static List<Long> ids(List<EventSearchResult> results) {
+		return results.stream().map(EventSearchResult::getId).collect(Collectors.toList());
+	}
+
+	@Test
+	void writesMadeWhileLoadingAreNotOverwrittenByTheLoader() {
+		EventSearchIndex index = new EventSearchIndex();
+		EventRepository eventRepository = mock(EventRepository.class);
+		// The loader reads a batch, then the write paths update event 2 and delete event 3 before it is applied
+		when(eventRepository.findAllByOrderByIdDesc(any(Limit.class))).thenAnswer(invocation -> {
+			index.upsert(event(2, "Robotics Finals"));
+			index.remove(3L);
+			return List.of(event(3, "Robotics Heats"), event(2, "Robotics Qualifiers"), event(1, "Robotics Kickoff"));
+		});
+		when(eventRepository.findByIdLessThanOrderByIdDesc(any(), any(Limit.class))).thenReturn(List.of());
+		ReflectionTestUtils.setField(index, "eventRepository", eventRepository);
+		ReflectionTestUtils.setField(index, "transactionTemplate", new TransactionTemplate() {
+			@Override
+			public <T> T execute(TransactionCallback<T> action) {
+				return action.doInTransaction(null);
+			}
+		});
+
+		index.loadAll();
+
+		assertEquals(2, index.size());
+		assertEquals(List.of(2L), ids(index.search("finals", 0, 10)));
+		assertEquals(List.of(), ids(index.search("qualifiers heats", 0, 10)));
+
+		index.upsert(event(2, "Robotics Qualifiers")); // after the load, writes apply as usual
+		assertEquals(List.of(2L), ids(index.search("qualifiers", 0, 10)));
+	}
+
+	@Test
+	void multiTermQueriesRankLikeAFullScan() {
+		EventSearchIndex index = new EventSearchIndex();
+		for (long id = 1; id <= 300; id++) {
+			String title = (id % 2 == 0 ? "coding " : "") + (id % 3 == 0 ? "night " : "") + (id % 7 == 0 ? "coding coding" : "") + " event";
+			index.upsert(event(id, title));
+		}
+		for (long id = 10; id <= 300; id += 10) index.remove(id); // frees slots that the next upserts reuse out of order
+		for (long id = 301; id <= 320; id++) index.upsert(event(id, "night coding night"));
+
+		List<EventSearchResult> top = index.search("coding night event", 0, 25);
+		List<EventSearchResult> all = index.search("coding night event", 0, EventSearchIndex.MAX_RESULTS);
+		assertEquals(25, top.size());
+		assertEquals(ids(all.subList(0, 25)), ids(top));
+		for (int i = 1; i < all.size(); i++) {
+			EventSearchResult previous = all.get(i - 1), current = all.get(i);
+			assertTrue(previous.getScore() > current.getScore()
+					|| previous.getScore() == current.getScore() && previous.getId() > current.getId(), "ranked out of order at " + i);
+		}
+	}
+}
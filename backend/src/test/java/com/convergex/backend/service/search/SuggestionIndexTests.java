@@ -0,0 +1,94 @@
+package com.convergex.backend.service.search;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.payload.Suggestion;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuggestionIndexTests {
+
+	private static Event event(long id, String title, String club, String location) {
+		Club c = new Club();
+		c.setId(id * 100);
+		c.setName(club);
+		Event e = new Event();
+		e.setId(id);
+		e.setTitle(title);
+		e.setClub(c);
+		e.setLocation(location);
+		return e;
+	}
+
+	private static List<String> texts(List<Suggestion> suggestions) {
+		return suggestions.stream().map(Suggestion::getText).collect(Collectors.toList());
+	}
+
+	@Test
+	void matchesWordPrefixesAndRanksSharedPhrasesFirst() {
+		SuggestionIndex index = new SuggestionIndex();
+		index.upsert(event(1, "Hackathon Kickoff", "IEEE", "Main Hall"));
+		index.upsert(event(2, "Hack Night", "IEEE", "Main Hall"));
+		index.upsert(event(3, "Hall of Fame Talk", "Alumni", "Seminar Room"));
+
+		assertEquals(List.of("Hack Night", "Hackathon Kickoff"), texts(index.suggest("hack", 10)));
+		// "Main Hall" is used twice, so it beats the one-off title
+		assertEquals(List.of("Main Hall", "Hall of Fame Talk"), texts(index.suggest("Hal", 10)));
+		assertEquals("CLUB", index.suggest("ie", 1).get(0).getType());
+		assertEquals(List.of("Hackathon Kickoff"), texts(index.suggest("kick", 10)));
+		assertTrue(index.suggest("hack ", 10).stream().noneMatch(s -> s.getText().equals("Hackathon Kickoff")));
+		assertTrue(index.suggest("zzz", 10).isEmpty());
+		assertEquals(1, index.suggest("h", 1).size());
+	}
+
+	@Test
+	void updatesAndRemovalsAreIncremental() {
+		SuggestionIndex index = new SuggestionIndex();
+		index.upsert(event(1, "Robotics Workshop", "Robotics Club", "Lab 3"));
+		index.upsert(event(2, "Robot Wars", "Robotics Club", "Lab 3"));
+
+		index.upsert(event(1, "Drone Workshop", "Robotics Club", "Lab 3"));
+		assertEquals(List.of("Robotics Club", "Robot Wars"), texts(index.suggest("robot", 10)));
+		assertEquals(List.of("Drone Workshop"), texts(index.suggest("dro", 10)));
+
+		index.remove(2L);
+		assertEquals(List.of("Robotics Club"), texts(index.suggest("robot", 10)));
+		index.remove(1L);
+		assertTrue(index.suggest("r", 10).isEmpty());
+		assertEquals(0, index.phraseCount());
+	}
+
+	@Test
+	void writesMadeWhileLoadingAreNotOverwrittenByTheLoader() {
+		SuggestionIndex index = new SuggestionIndex();
+		EventRepository eventRepository = mock(EventRepository.class);
+		// The loader reads a batch, then the write paths edit event 2 and delete event 3 before it is applied
+		when(eventRepository.findAllByOrderByIdDesc(any(Limit.class))).thenAnswer(invocation -> {
+			index.upsert(event(2, "Robotics Finals", "Robotics Club", "Lab 3"));
+			index.remove(3L);
+			return List.of(event(3, "Robotics Heats", "Robotics Club", "Hall 9"), event(2, "Robotics Qualifiers", "Robotics Club", "Lab 3"));
+		});
+		when(eventRepository.findByIdLessThanOrderByIdDesc(any(), any(Limit.class))).thenReturn(List.of());
+		ReflectionTestUtils.setField(index, "eventRepository", eventRepository);
+		ReflectionTestUtils.setField(index, "clubRepository", mock(ClubRepository.class));
+
+		index.loadAll();
+
+		assertEquals(List.of("Robotics Club", "Robotics Finals"), texts(index.suggest("robotics", 10)));
+		assertTrue(index.suggest("hall", 10).isEmpty());
+		index.remove(2L);
+		assertEquals(0, index.phraseCount());
+	}
+}
@@ -0,0 +1,83 @@
+package com.convergex.backend.service.sync;
+
+import com.convergex.backend.model.Club;
+import com.convergex.backend.model.Event;
+import com.convergex.backend.model.User;
+import com.convergex.backend.payload.EventDetailsResponse;
+import com.convergex.backend.payload.SyncResponse;
+import com.convergex.backend.repository.ClubRepository;
+import com.convergex.backend.repository.EventRepository;
+import com.convergex.backend.repository.UserRepository;
+import com.convergex.backend.security.jwt.JwtUtils;
+import com.convergex.backend.security.services.UserDetailsImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SyncServiceTests {
+
+	@Autowired private SyncService syncService;
+	@Autowired private ChangeLogService changeLogService;
+	@Autowired private MockMvc mockMvc;
+	@Autowired private JwtUtils jwtUtils;
+	@Autowired private UserRepository userRepository;
+	@Autowired private ClubRepository clubRepository;
+	@Autowired private EventRepository eventRepository;
+
+	@Test
+	void deltasCarryOnlyChangesSinceTheTokenAndFallBackToSnapshotsWhenCompacted() throws Exception {
+		User student = userRepository.save(new User("Syncer", "sync-student@tkmce.ac.in", "x", null, null, null));
+		Club club = new Club();
+		club.setName("Sync Club");
+		club = clubRepository.save(club);
+		Event event = new Event();
+		event.setTitle("Offline Meetup");
+		event.setClub(club);
+		event.setPostedBy(student);
+		event = eventRepository.save(event); // predates nothing in the log, so only a snapshot has it
+		String auth = "Bearer " + jwtUtils.generateJwtTokenFromUserDetails(UserDetailsImpl.build(student));
+
+		SyncResponse snapshot = syncService.sync(student.getId(), null, SyncService.MAX_LIMIT);
+		assertTrue(snapshot.isFull());
+		Long eventId = event.getId();
+		assertTrue(snapshot.getEvents().stream().map(EventDetailsResponse::getId).anyMatch(eventId::equals));
+
+		mockMvc.perform(post("/api/events/" + eventId + "/save").header("Authorization", auth)).andExpect(status().isOk());
+		mockMvc.perform(post("/api/follow/" + club.getId()).header("Authorization", auth)).andExpect(status().isOk());
+		SyncResponse delta = syncService.sync(student.getId(), snapshot.getToken(), null);
+		assertFalse(delta.isFull());
+		assertEquals(List.of(eventId), delta.getSavedEventIds());
+		assertEquals(List.of(club.getId()), delta.getFollowedClubIds());
+		assertTrue(delta.getEvents().isEmpty());
+
+		mockMvc.perform(delete("/api/events/" + eventId + "/unsave").header("Authorization", auth)).andExpect(status().isOk());
+		mockMvc.perform(post("/api/events/" + eventId + "/save").header("Authorization", auth)).andExpect(status().isOk());
+		mockMvc.perform(delete("/api/events/" + eventId + "/unsave").header("Authorization", auth)).andExpect(status().isOk());
+		SyncResponse tombstone = syncService.sync(student.getId(), delta.getToken(), null);
+		assertEquals(List.of(eventId), tombstone.getUnsavedEventIds());
+		assertTrue(tombstone.getSavedEventIds().isEmpty());
+
+		SyncResponse nothingNew = syncService.sync(student.getId(), tombstone.getToken(), null);
+		assertEquals(tombstone.getToken(), nothingNew.getToken());
+		assertFalse(nothingNew.isFull());
+
+		changeLogService.compactBefore(LocalDateTime.now().plusSeconds(1));
+		assertTrue(syncService.sync(student.getId(), delta.getToken(), null).isFull());
+		assertFalse(syncService.sync(student.getId(), tombstone.getToken(), null).isFull()); // had applied everything compacted
+		assertTrue(syncService.sync(student.getId(), "someotherlog.5", null).isFull());
+	}
+}
@@ -1,7 +1,7 @@
 import React, { useState, useMemo } from 'react';
 import { StyleSheet, Text, View, FlatList, ActivityIndicator, Pressable, Image, Alert } from 'react-native';
 import { Calendar, DateData } from 'react-native-calendars';
-import { api, API_HOST_URL } from '../../constants/api';
+import { getAllPages, API_HOST_URL } from '../../constants/api';
 import { Link, useFocusEffect } from 'expo-router';
 import { Ionicons } from '@expo/vector-icons';
 import { SafeAreaView } from 'react-native-safe-area-context';
@@ -92,8 +92,7 @@ export default function CalendarScreen() {
   const fetchRegisteredEvents = async () => {
     try {
       setLoading(true);
-      const response = await api.get('/registrations/my-events');
-      setAllRegisteredEvents(response.data);
+      setAllRegisteredEvents(await getAllPages<Event>('/registrations/my-events'));
     } catch (e: any) {
       console.error("Failed to fetch registered events:", e.response?.data || e.message);
        if (e.response?.status !== 401) {
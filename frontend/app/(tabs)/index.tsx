@@ -4,7 +4,7 @@ import {
   Image, Pressable, Share, Alert
 } from 'react-native';
 import { Ionicons, MaterialIcons } from '@expo/vector-icons';
-import { api, API_HOST_URL } from '../../constants/api';
+import { api, getPage, API_HOST_URL } from '../../constants/api';
 import { Link, useRouter, useFocusEffect } from 'expo-router';
 import { useAuth } from '../../context/AuthContext';
 import { SafeAreaView } from 'react-native-safe-area-context';
@@ -184,6 +184,8 @@ export default function HomeScreen() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [feedType, setFeedType] = useState<'general' | 'subscribed'>('general');
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const router = useRouter();
   const { user } = useAuth();
@@ -195,16 +197,17 @@ export default function HomeScreen() {
     }, [feedType])
   );
 
+  const feedEndpoint = () => (feedType === 'general' ? '/events' : '/events/feed');
+
   const fetchEvents = async () => {
     try {
       setLoading(true);
       setError(null);
       
-      const endpoint = feedType === 'general' ? '/events' : '/events/feed';
-      const response = await api.get(endpoint);
-      
-      const sortedEvents = response.data.sort((a: EventCardType, b: EventCardType) => b.id - a.id);
-      setEvents(sortedEvents);
+      // Pages arrive newest first
+      const page = await getPage<EventCardType>(feedEndpoint());
+      setEvents(page.items);
+      setNextCursor(page.nextCursor);
 
     } catch (e: any) {
       setError("Failed to fetch events. Backend running?");
@@ -214,6 +217,20 @@ export default function HomeScreen() {
     }
   };
 
+  const fetchMoreEvents = async () => {
+    if (!nextCursor || loadingMore || loading) return;
+    try {
+      setLoadingMore(true);
+      const page = await getPage<EventCardType>(feedEndpoint(), nextCursor);
+      setEvents(prev => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (e: any) {
+      console.error("fetchMoreEvents Error:", e.response?.data || e.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const renderHeader = () => (
     <View>
       <View style={styles.header}>
@@ -286,6 +303,9 @@ export default function HomeScreen() {
         )}
         onRefresh={fetchEvents}
         refreshing={loading} // Shows the pull-to-refresh spinner
+        onEndReached={fetchMoreEvents}
+        onEndReachedThreshold={0.5}
+        ListFooterComponent={loadingMore ? <ActivityIndicator style={{ margin: 16 }} color="#007bff" /> : null}
       />
       {isAdmin && (
         <Pressable style={styles.fab} onPress={() => router.push('/create')}>
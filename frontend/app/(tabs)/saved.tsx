@@ -1,7 +1,7 @@
 import React from 'react'; // Import React
 import { useState } from 'react';
 import { StyleSheet, Text, View, FlatList, ActivityIndicator, Pressable, Image, Alert } from 'react-native';
-import { api, API_HOST_URL } from '../../constants/api';
+import { getPage, API_HOST_URL } from '../../constants/api';
 import { Link, useFocusEffect } from 'expo-router';
 import { Ionicons } from '@expo/vector-icons';
 import { SafeAreaView } from 'react-native-safe-area-context';
@@ -46,6 +46,8 @@ const SavedEventCard = ({ event }: { event: Event }) => {
 export default function SavedScreen() {
   const [savedEvents, setSavedEvents] = useState<Event[]>([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useFocusEffect(
     React.useCallback(() => {
@@ -56,8 +58,9 @@ export default function SavedScreen() {
   const fetchSavedEvents = async () => {
     try {
       setLoading(true);
-      const response = await api.get('/events/saved');
-      setSavedEvents(response.data);
+      const page = await getPage<Event>('/events/saved');
+      setSavedEvents(page.items);
+      setNextCursor(page.nextCursor);
     } catch (e: any) {
       console.error("Failed to fetch saved posts:", e.response?.data || e.message);
       // Only show alert if it's not a 401 (handled globally perhaps)
@@ -69,6 +72,20 @@ export default function SavedScreen() {
     }
   };
 
+  const fetchMoreSavedEvents = async () => {
+    if (!nextCursor || loadingMore || loading) return;
+    try {
+      setLoadingMore(true);
+      const page = await getPage<Event>('/events/saved', nextCursor);
+      setSavedEvents(prev => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (e: any) {
+      console.error("Failed to fetch more saved posts:", e.response?.data || e.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   if (loading) {
     return (
       <SafeAreaView style={styles.center}>
@@ -94,6 +111,9 @@ export default function SavedScreen() {
         )}
         onRefresh={fetchSavedEvents} // Add pull-to-refresh
         refreshing={loading}
+        onEndReached={fetchMoreSavedEvents}
+        onEndReachedThreshold={0.5}
+        ListFooterComponent={loadingMore ? <ActivityIndicator style={{ margin: 16 }} color="#007bff" /> : null}
       />
     </SafeAreaView>
   );
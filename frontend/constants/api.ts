@@ -52,5 +52,25 @@ api.interceptors.response.use(
   }
 );
 
+// Keyset-paginated listings (/events, /events/feed, /events/saved, /registrations/my-events)
+// return one page as a plain array and the cursor for the next page in X-Next-Cursor.
+export type Page<T> = { items: T[]; nextCursor: string | null };
 
-export { api };
+const getPage = async <T,>(path: string, cursor?: string | null): Promise<Page<T>> => {
+  const response = await api.get(path, { params: cursor ? { cursor } : undefined });
+  return { items: response.data, nextCursor: response.headers['x-next-cursor'] ?? null };
+};
+
+// Follows the cursor to the end, for screens that need the whole list (e.g. the calendar).
+const getAllPages = async <T,>(path: string): Promise<T[]> => {
+  const all: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const page: Page<T> = await getPage<T>(path, cursor);
+    all.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return all;
+};
+
+export { api, getPage, getAllPages };